@@ -0,0 +1,82 @@
+#!/bin/bash
+
+# Compares start-up time, first-request latency and memory footprint of the plain jar, the jar
+# with Spring AOT, the jar with Spring AOT and a CDS archive and, when it has been built, the
+# native image. Start-up is measured from launch until /actuator/health answers; the first
+# request is one POST /solve sent right after, before any JIT warm-up, and the footprint is
+# the resident set size of the process once that request has been answered.
+#
+# Usage: scripts/compare-startup.sh [runs]
+# Requires: ./gradlew bootJar -Paot (and optionally ./gradlew nativeCompile -Paot), curl
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+NATIVE=build/native/nativeCompile/required_remainder_be
+WORK=build/startup
+BODY='[{"x":7,"y":5,"n":12345},{"x":5,"y":0,"n":4},{"x":10,"y":5,"n":15}]'
+
+now_ms() {
+    date +%s%3N
+}
+
+run_once() {
+    local mode=$1
+    shift
+
+    local start
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "$WORK/$mode.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$mode failed to start, see $WORK/$mode.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    local ready=$(( $(now_ms) - start ))
+
+    local first
+    first=$(curl -s -o /dev/null -w '%{time_total}' -X POST -H 'Content-Type: application/json' \
+        -d "$BODY" "http://localhost:$PORT/api/required-remainder/solve")
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$ready $first $rss_kb"
+}
+
+run_mode() {
+    local mode=$1
+    shift
+
+    local total_ready=0
+    local total_rss_kb=0
+    local results=""
+    for _ in $(seq "$RUNS"); do
+        read -r ready first rss_kb < <(run_once "$mode" "$@")
+        total_ready=$(( total_ready + ready ))
+        total_rss_kb=$(( total_rss_kb + rss_kb ))
+        results="$results ${first}s"
+    done
+    echo "$mode: ready in $(( total_ready / RUNS )) ms on average," \
+        "RSS $(( total_rss_kb / RUNS / 1024 )) MB on average, first request:$results"
+}
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" > /dev/null
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$WORK/extracted/app.jar" > "$WORK/training.log" 2>&1
+
+run_mode jar java -jar "$JAR"
+run_mode aot java -Dspring.aot.enabled=true -jar "$JAR"
+run_mode aot-cds java -XX:SharedArchiveFile="$WORK/app.jsa" -Dspring.aot.enabled=true -jar "$WORK/extracted/app.jar"
+if [ -x "$NATIVE" ]; then
+    run_mode native "$NATIVE"
+fi
@@ -0,0 +1,42 @@
+#!/bin/bash
+
+# Compares solve latency between the platform-thread Tomcat pool and virtual threads.
+# Starts the application once per mode, drives it with `hey` and prints the p99 of each run.
+#
+# Usage: scripts/compare-thread-modes.sh [requests] [concurrency]
+# Requires: a built jar (./gradlew bootJar), curl and hey (https://github.com/rakyll/hey)
+
+set -euo pipefail
+
+REQUESTS=${1:-200000}
+CONCURRENCY=${2:-1000}
+PORT=${PORT:-18080}
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+BODY='[{"x":7,"y":5,"n":12345},{"x":5,"y":0,"n":4},{"x":10,"y":5,"n":15}]'
+
+run_mode() {
+    local mode=$1
+    local profile=$2
+
+    # hey resends one body, so the response cache would answer every request after the first
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profile" \
+        --app.cache.batch.enabled=false \
+        --logging.level.com.example.required_remainder_be=WARN > "build/$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" RETURN
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        sleep 0.5
+    done
+
+    # warm-up, then the measured run
+    hey -n 20000 -c 50 -m POST -T application/json -d "$BODY" \
+        "http://localhost:$PORT/api/required-remainder/solve" > /dev/null
+    hey -n "$REQUESTS" -c "$CONCURRENCY" -m POST -T application/json -d "$BODY" \
+        "http://localhost:$PORT/api/required-remainder/solve" > "build/$mode.txt"
+
+    echo "$mode: $(grep -E 'Requests/sec' "build/$mode.txt" | xargs), p99$(grep -E '99% in' "build/$mode.txt" | sed 's/.*99% in//')"
+}
+
+run_mode platform default
+run_mode virtual virtual
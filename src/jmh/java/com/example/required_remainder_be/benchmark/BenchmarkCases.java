@@ -0,0 +1,73 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible test case generator shared by the benchmarks
+ */
+final class BenchmarkCases {
+
+    private static final long SEED = 42L;
+    private static final long MAX_VALUE = 1_000_000_000L;
+
+    private BenchmarkCases() {
+    }
+
+    /**
+     * Generates cases where roughly {@code invalidRatio} of them fail validation
+     */
+    static RequiredRemainderBatch batch(int size, double invalidRatio) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            long x = random.nextLong(2, MAX_VALUE + 1);
+            long y = random.nextLong(0, x);
+            long n = random.nextLong(y, MAX_VALUE + 1);
+            if (random.nextDouble() < invalidRatio) {
+                // rotate through the three validation failures
+                switch (i % 3) {
+                    case 0 -> x = 1;
+                    case 1 -> y = x;
+                    default -> n = MAX_VALUE + 1;
+                }
+            }
+            xs[i] = x;
+            ys[i] = y;
+            ns[i] = n;
+        }
+        return new RequiredRemainderBatch(xs, ys, ns, size);
+    }
+
+    static List<RequiredRemainderRequest> requests(RequiredRemainderBatch batch) {
+        List<RequiredRemainderRequest> requests = new ArrayList<>(batch.getSize());
+        for (int i = 0; i < batch.getSize(); i++) {
+            RequiredRemainderRequest request = new RequiredRemainderRequest();
+            request.setX(batch.getXs()[i]);
+            request.setY(batch.getYs()[i]);
+            request.setN(batch.getNs()[i]);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static String json(RequiredRemainderBatch batch) {
+        StringBuilder json = new StringBuilder(batch.getSize() * 40).append('[');
+        for (int i = 0; i < batch.getSize(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"x\":").append(batch.getXs()[i])
+                    .append(",\"y\":").append(batch.getYs()[i])
+                    .append(",\"n\":").append(batch.getNs()[i])
+                    .append('}');
+        }
+        return json.append(']').toString();
+    }
+}
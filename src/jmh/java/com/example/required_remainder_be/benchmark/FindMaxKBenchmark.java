@@ -0,0 +1,97 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import com.example.required_remainder_be.service.TripleResultCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigInteger;
+
+/**
+ * Single-case cost of the throwing and the exception-free entry points, of the same lookups
+ * answered from a warm {@link TripleResultCache}, and of the long and BigInteger wide paths.
+ * Inputs cycle through a pre-generated table so the JIT cannot fold them into constants.
+ */
+@State(Scope.Thread)
+public class FindMaxKBenchmark {
+
+    private static final int TABLE_SIZE = 1024;
+
+    private RequiredRemainderService service;
+    private TripleResultCache tripleCache;
+    private long[] xs;
+    private long[] ys;
+    private long[] ns;
+    private BigInteger[] bigXs;
+    private BigInteger[] bigYs;
+    private BigInteger[] bigNs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        service = new RequiredRemainderService(new SolveProperties(), new SolveMetrics(new SimpleMeterRegistry()));
+        RequiredRemainderBatch batch = BenchmarkCases.batch(TABLE_SIZE, 0.0);
+        xs = batch.getXs();
+        ys = batch.getYs();
+        ns = batch.getNs();
+
+        bigXs = new BigInteger[TABLE_SIZE];
+        bigYs = new BigInteger[TABLE_SIZE];
+        bigNs = new BigInteger[TABLE_SIZE];
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            bigXs[i] = BigInteger.valueOf(xs[i]);
+            bigYs[i] = BigInteger.valueOf(ys[i]);
+            bigNs[i] = BigInteger.valueOf(ns[i]);
+        }
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getTriple().setEnabled(true);
+        tripleCache = new TripleResultCache(cacheProperties, new SimpleMeterRegistry());
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            tripleCache.put(xs[i], ys[i], ns[i], service.solveCase(xs[i], ys[i], ns[i]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public long findMaxK() {
+        int i = next++ & (TABLE_SIZE - 1);
+        return service.findMaxK(xs[i], ys[i], ns[i]);
+    }
+
+    @Benchmark
+    public long solveCase() {
+        int i = next++ & (TABLE_SIZE - 1);
+        return service.solveCase(xs[i], ys[i], ns[i]);
+    }
+
+    @Benchmark
+    public long tripleCacheHit() {
+        int i = next++ & (TABLE_SIZE - 1);
+        return tripleCache.getIfPresent(xs[i], ys[i], ns[i]);
+    }
+
+    @Benchmark
+    public long solveCaseWide() {
+        int i = next++ & (TABLE_SIZE - 1);
+        return RequiredRemainderService.solveCaseWide(xs[i], ys[i], ns[i]);
+    }
+
+    @Benchmark
+    public BigInteger solveCaseWideBigInteger() {
+        int i = next++ & (TABLE_SIZE - 1);
+        return RequiredRemainderService.solveCaseWide(bigXs[i], bigYs[i], bigNs[i]);
+    }
+}
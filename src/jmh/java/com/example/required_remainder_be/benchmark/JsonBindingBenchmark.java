@@ -0,0 +1,126 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.converter.RequiredRemainderJsonHttpMessageConverter;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderResultList;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of the JSON contract: reading the request list and writing the result list, with
+ * Jackson databind and with RequiredRemainderJsonHttpMessageConverter
+ */
+@State(Scope.Benchmark)
+public class JsonBindingBenchmark {
+
+    private static final TypeReference<List<RequiredRemainderRequest>> REQUEST_LIST =
+            new TypeReference<>() {
+            };
+    private static final Type REQUEST_LIST_TYPE =
+            new ParameterizedTypeReference<List<RequiredRemainderRequest>>() {
+            }.getType();
+    private static final Type RESULT_LIST_TYPE =
+            new ParameterizedTypeReference<List<Long>>() {
+            }.getType();
+
+    @Param({"1", "1000", "100000"})
+    public int batchSize;
+
+    private ObjectMapper objectMapper;
+    private RequiredRemainderJsonHttpMessageConverter converter;
+    private byte[] requestBody;
+    private List<Long> results;
+    private RequiredRemainderResultList resultList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        converter = new RequiredRemainderJsonHttpMessageConverter(objectMapper);
+        RequiredRemainderBatch batch = BenchmarkCases.batch(batchSize, 0.1);
+        requestBody = BenchmarkCases.json(batch).getBytes(StandardCharsets.UTF_8);
+        results = new ArrayList<>(batchSize);
+        long[] failures = new long[(batchSize + 63) >>> 6];
+        for (int i = 0; i < batchSize; i++) {
+            results.add(i % 10 == 0 ? null : batch.getNs()[i]);
+            if (i % 10 == 0) {
+                failures[i >>> 6] |= 1L << i;
+            }
+        }
+        resultList = new RequiredRemainderResultList(batch.getNs().clone(), failures);
+    }
+
+    @Benchmark
+    public List<RequiredRemainderRequest> readRequests() throws IOException {
+        return objectMapper.readValue(requestBody, REQUEST_LIST);
+    }
+
+    @Benchmark
+    public byte[] writeResults() throws IOException {
+        return objectMapper.writeValueAsBytes(results);
+    }
+
+    @Benchmark
+    public Object readRequestsCodec() throws IOException {
+        return converter.read(REQUEST_LIST_TYPE, null, new BodyInput(requestBody));
+    }
+
+    @Benchmark
+    public byte[] writeResultsCodec() throws IOException {
+        BodyOutput output = new BodyOutput();
+        converter.write(resultList, RESULT_LIST_TYPE, MediaType.APPLICATION_JSON, output);
+        return output.body.toByteArray();
+    }
+
+    private record BodyInput(byte[] body) implements HttpInputMessage {
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+            return headers;
+        }
+    }
+
+    private static final class BodyOutput implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.example.required_remainder_be.config.CoalescerProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import com.example.required_remainder_be.service.SingleCaseCoalescer;
+import com.example.required_remainder_be.service.TripleResultCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+
+/**
+ * Concurrent single-case calls through {@link SingleCaseCoalescer} against solving each on
+ * its own thread, on eight threads, with and without a max wait
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class SingleCaseCoalescerBenchmark {
+
+    private static final int TABLE_SIZE = 1024;
+
+    @Param({"0", "50000"})
+    public long maxWaitNanos;
+
+    private RequiredRemainderService service;
+    private SingleCaseCoalescer coalescer;
+    private long[] xs;
+    private long[] ys;
+    private long[] ns;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SolveMetrics solveMetrics = new SolveMetrics(meterRegistry);
+        service = new RequiredRemainderService(new SolveProperties(), solveMetrics);
+        CoalescerProperties properties = new CoalescerProperties();
+        properties.setMaxWait(Duration.ofNanos(maxWaitNanos));
+        coalescer = new SingleCaseCoalescer(service, solveMetrics,
+                new TripleResultCache(new CacheProperties(), meterRegistry), properties, meterRegistry);
+        RequiredRemainderBatch batch = BenchmarkCases.batch(TABLE_SIZE, 0.0);
+        xs = batch.getXs();
+        ys = batch.getYs();
+        ns = batch.getNs();
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public long direct(Cursor cursor) {
+        int i = cursor.next++ & (TABLE_SIZE - 1);
+        return service.solveCase(xs[i], ys[i], ns[i]);
+    }
+
+    @Benchmark
+    public long coalesced(Cursor cursor) {
+        int i = cursor.next++ & (TABLE_SIZE - 1);
+        return coalescer.solve(xs[i], ys[i], ns[i]);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * Whole-batch cost of the list, detailed and primitive entry points
+ * across batch sizes and shares of invalid cases.
+ */
+@State(Scope.Benchmark)
+public class SolveCasesBenchmark {
+
+    @Param({"1", "1000", "100000", "10000000"})
+    public int batchSize;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double invalidRatio;
+
+    private RequiredRemainderService service;
+    private RequiredRemainderBatch batch;
+    private List<RequiredRemainderRequest> requests;
+
+    @Setup
+    public void setUp() {
+        service = new RequiredRemainderService(new SolveProperties(), new SolveMetrics(new SimpleMeterRegistry()));
+        batch = BenchmarkCases.batch(batchSize, invalidRatio);
+        requests = BenchmarkCases.requests(batch);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public List<Long> solveCases() {
+        return service.solveCases(requests);
+    }
+
+    @Benchmark
+    public Object solveCasesDetailed() {
+        return service.solveCasesDetailed(requests);
+    }
+
+    @Benchmark
+    public long[] solveBatch() {
+        return service.solveBatch(batch);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Single-threaded scalar against vector kernel on large batches, through the
+ * allocation-free {@link RequiredRemainderService#solveInto} entry point
+ */
+@State(Scope.Benchmark)
+public class SolveKernelBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int batchSize;
+
+    @Param({"0.0", "0.1"})
+    public double invalidRatio;
+
+    private RequiredRemainderService scalarService;
+    private RequiredRemainderService vectorService;
+    private RequiredRemainderBatch batch;
+    private long[] results;
+    private long[] failures;
+
+    @Setup
+    public void setUp() {
+        scalarService = new RequiredRemainderService(properties(false), new SolveMetrics(new SimpleMeterRegistry()));
+        vectorService = new RequiredRemainderService(properties(true), new SolveMetrics(new SimpleMeterRegistry()));
+        batch = BenchmarkCases.batch(batchSize, invalidRatio);
+        results = new long[batchSize];
+        failures = RequiredRemainderService.newFailureBitmap(batchSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scalarService.shutdown();
+        vectorService.shutdown();
+    }
+
+    private static SolveProperties properties(boolean vectorKernel) {
+        SolveProperties properties = new SolveProperties();
+        properties.setParallelism(1);
+        properties.setVectorKernel(vectorKernel);
+        return properties;
+    }
+
+    @Benchmark
+    public int scalarKernel() {
+        return scalarService.solveInto(batch.getXs(), batch.getYs(), batch.getNs(), 0, batchSize, results, failures);
+    }
+
+    @Benchmark
+    public int vectorKernel() {
+        return vectorService.solveInto(batch.getXs(), batch.getYs(), batch.getNs(), 0, batchSize, results, failures);
+    }
+}
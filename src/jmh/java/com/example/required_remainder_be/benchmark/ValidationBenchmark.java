@@ -0,0 +1,62 @@
+package com.example.required_remainder_be.benchmark;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.service.RequiredRemainderRequestValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * Reflective Bean Validation of every element against the single-pass request validator,
+ * on valid batches so both walk every case
+ */
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    public int batchSize;
+
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private RequiredRemainderRequestValidator requestValidator;
+    private List<RequiredRemainderRequest> requests;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        SolveProperties properties = new SolveProperties();
+        properties.setRejectInvalidCases(true);
+        requestValidator = new RequiredRemainderRequestValidator(properties);
+        requests = BenchmarkCases.requests(BenchmarkCases.batch(batchSize, 0.0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int beanValidation() {
+        int violations = 0;
+        for (RequiredRemainderRequest request : requests) {
+            violations += beanValidator.validate(request).size();
+        }
+        return violations;
+    }
+
+    @Benchmark
+    public List<RequiredRemainderRequest> requestValidator() {
+        requestValidator.validate(requests);
+        return requests;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.required_remainder_be.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the workload and records latency in microseconds. Latency is measured from the
+ * time a request was due, not the time it was sent, so a stalled server is charged for the
+ * requests it held back as well as for the one it was slow on (coordinated omission):
+ * <ul>
+ *     <li>open model: requests are due at a fixed rate whatever the server does; when
+ *     {@code concurrency} requests are already in flight the next one waits, and that wait
+ *     counts towards its latency</li>
+ *     <li>closed model: each client sends its next request once the previous one returns;
+ *     with a rate the clients are paced and latency counts from each due time, without one
+ *     they run flat out and only service time is measured</li>
+ * </ul>
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * What the measured part of a run produced
+     */
+    record Result(Histogram latencyMicros, long requests, long cases, long errors, Duration elapsed) {
+    }
+
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final HttpClient client;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong cases = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private volatile boolean running = true;
+
+    LoadGenerator(LoadTestConfig config, Workload workload, HttpClient client) {
+        this.config = config;
+        this.workload = workload;
+        this.client = client;
+    }
+
+    Result run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.model() == LoadTestConfig.Model.OPEN) {
+                senders.submit(() -> dispatchOpen(senders, start, end));
+            } else {
+                for (int i = 0; i < config.concurrency(); i++) {
+                    int client = i;
+                    senders.submit(() -> loopClosed(client, start, end));
+                }
+            }
+            Result result = report(start, measureFrom, end);
+            running = false;
+            senders.shutdown();
+            if (!senders.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.out.println("Requests still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s, abandoning them");
+                senders.shutdownNow();
+            }
+            return result;
+        }
+    }
+
+    private void dispatchOpen(ExecutorService senders, long start, long end) {
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        Semaphore inFlight = new Semaphore(config.concurrency());
+        for (long i = 0; running; i++) {
+            long due = start + i * period;
+            if (due >= end) {
+                return;
+            }
+            parkUntil(due);
+            inFlight.acquireUninterruptibly();
+            senders.submit(() -> {
+                try {
+                    send(due);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void loopClosed(int client, long start, long end) {
+        if (config.rate() <= 0) {
+            while (running && System.nanoTime() < end) {
+                send(System.nanoTime());
+            }
+            return;
+        }
+        // clients are staggered across one period so that they do not fire together
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) * config.concurrency() / config.rate());
+        long due = start + period * client / config.concurrency();
+        while (running && due < end) {
+            parkUntil(due);
+            send(due);
+            due += period;
+        }
+    }
+
+    private void send(long due) {
+        Workload.Call call = workload.next();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() != 200;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+        recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+        requests.incrementAndGet();
+        cases.addAndGet(call.cases());
+        if (failed) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Prints one line per report interval and adds the intervals after the warm-up to the result
+     */
+    private Result report(long start, long measureFrom, long end) {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        Histogram interval = null;
+        long totalRequests = 0;
+        long totalCases = 0;
+        long totalErrors = 0;
+        long intervalNanos = config.reportInterval().toNanos();
+        long from = start;
+        while (from < end) {
+            long to = from + intervalNanos;
+            if (from < measureFrom) {
+                // the warm-up ends on an interval boundary
+                to = Math.min(to, measureFrom);
+            }
+            to = Math.min(to, end);
+            parkUntil(to);
+            interval = recorder.getIntervalHistogram(interval);
+            long intervalRequests = requests.getAndSet(0);
+            long intervalCases = cases.getAndSet(0);
+            long intervalErrors = errors.getAndSet(0);
+            boolean measured = from >= measureFrom;
+            double seconds = (to - from) / 1e9;
+            System.out.printf("%-6s %7.1fs %10.1f req/s %12.1f cases/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  errors %d%n",
+                    measured ? "" : "warmup", (to - start) / 1e9, intervalRequests / seconds, intervalCases / seconds,
+                    interval.getValueAtPercentile(50) / 1000.0, interval.getValueAtPercentile(99) / 1000.0,
+                    interval.getMaxValue() / 1000.0, intervalErrors);
+            if (measured) {
+                total.add(interval);
+                totalRequests += intervalRequests;
+                totalCases += intervalCases;
+                totalErrors += intervalErrors;
+            }
+            from = to;
+        }
+        return new Result(total, totalRequests, totalCases, totalErrors, Duration.ofNanos(end - measureFrom));
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
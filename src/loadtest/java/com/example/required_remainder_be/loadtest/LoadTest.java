@@ -0,0 +1,45 @@
+package com.example.required_remainder_be.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}: starts the application jar unless a URL is
+ * given, drives POST /api/required-remainder/solve with the configured workload, prints and
+ * writes the report, and exits with 1 when a threshold is missed so that the build fails.
+ */
+public final class LoadTest {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        ApplicationProcess application = config.url() == null ? ApplicationProcess.start(config, client) : null;
+        LoadTestReport report;
+        try {
+            System.out.println("Load testing " + config.baseUrl());
+            LoadGenerator.Result result = new LoadGenerator(config, new Workload(config), client).run();
+            report = new LoadTestReport(config, result);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+
+        report.print(System.out);
+        report.write();
+        System.out.println();
+        System.out.println("Report written to " + config.reportDir().toAbsolutePath());
+        System.exit(report.passed() ? 0 : 1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.required_remainder_be.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties. The Gradle task
+ * forwards every {@code -Ploadtest.*} project property, so the same keys work on the
+ * command line.
+ *
+ * @param url            Base URL of a running instance; when null the jar is started locally
+ * @param jar            Application jar started when no url is given
+ * @param port           Port the started application listens on
+ * @param jvmArgs        Extra JVM arguments for the started application
+ * @param appArgs        Extra application arguments; by default the response cache is turned
+ *                       off, since it would answer the few bodies the generator repeats
+ * @param model          Open (fixed arrival rate) or closed (fixed number of looping clients)
+ * @param concurrency    Clients of the closed model, or requests in flight at most in the open model
+ * @param rate           Requests per second to aim for; required by the open model, paces the closed one
+ * @param warmup         Time run before anything is recorded
+ * @param duration       Time recorded after the warm-up
+ * @param batchMix       Batch sizes and their relative weights
+ * @param invalidRatio   Fraction of cases that break the constraints
+ * @param binary         Send the packed binary format instead of JSON
+ * @param reportInterval How often interval throughput and latency are printed
+ * @param reportDir      Where the summary and the latency distribution are written
+ * @param maxP99         Largest acceptable 99th percentile, null to skip the check
+ * @param maxP999        Largest acceptable 99.9th percentile, null to skip the check
+ * @param minThroughput  Fewest acceptable requests per second, 0 to skip the check
+ * @param maxErrorRate   Largest acceptable fraction of failed requests
+ */
+record LoadTestConfig(String url, Path jar, int port, List<String> jvmArgs, List<String> appArgs,
+                      Model model, int concurrency, double rate, Duration warmup, Duration duration,
+                      List<BatchWeight> batchMix, double invalidRatio, boolean binary,
+                      Duration reportInterval, Path reportDir, Duration maxP99, Duration maxP999,
+                      double minThroughput, double maxErrorRate) {
+
+    private static final String PREFIX = "loadtest.";
+
+    enum Model {
+        OPEN, CLOSED
+    }
+
+    /**
+     * @param size   Cases per request
+     * @param weight Relative share of requests with this size
+     */
+    record BatchWeight(int size, int weight) {
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        Properties properties = System.getProperties();
+        LoadTestConfig config = new LoadTestConfig(
+                get(properties, "url", null),
+                pathOrNull(get(properties, "jar", null)),
+                Integer.parseInt(get(properties, "port", "18080")),
+                split(get(properties, "jvm-args", "")),
+                split(get(properties, "app-args", "--app.cache.batch.enabled=false")),
+                Model.valueOf(get(properties, "model", "closed").toUpperCase(Locale.ROOT)),
+                Integer.parseInt(get(properties, "concurrency", "16")),
+                Double.parseDouble(get(properties, "rate", "0")),
+                parseDuration(get(properties, "warmup", "10s")),
+                parseDuration(get(properties, "duration", "30s")),
+                parseBatchMix(get(properties, "batch-mix", "1:60,100:30,10000:10")),
+                Double.parseDouble(get(properties, "invalid-ratio", "0.0")),
+                "binary".equalsIgnoreCase(get(properties, "format", "json")),
+                parseDuration(get(properties, "report-interval", "5s")),
+                Path.of(get(properties, "report-dir", "build/reports/loadtest")),
+                durationOrNull(get(properties, "max-p99", "250ms")),
+                durationOrNull(get(properties, "max-p999", null)),
+                Double.parseDouble(get(properties, "min-throughput", "0")),
+                Double.parseDouble(get(properties, "max-error-rate", "0.001")));
+        config.check();
+        return config;
+    }
+
+    private void check() {
+        if (url == null && jar == null) {
+            throw new IllegalArgumentException("Set loadtest.url to test a running instance, or loadtest.jar");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("loadtest.concurrency must be positive");
+        }
+        if (model == Model.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("The open model needs a target rate, set loadtest.rate");
+        }
+        if (invalidRatio < 0 || invalidRatio > 1) {
+            throw new IllegalArgumentException("loadtest.invalid-ratio must be between 0 and 1");
+        }
+    }
+
+    String baseUrl() {
+        return url != null ? url : "http://localhost:" + port;
+    }
+
+    private static String get(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(PREFIX + key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static List<String> split(String value) {
+        return value.isBlank() ? List.of() : Arrays.asList(value.trim().split("\\s+"));
+    }
+
+    private static Path pathOrNull(String value) {
+        return value == null ? null : Path.of(value);
+    }
+
+    private static Duration durationOrNull(String value) {
+        return value == null || value.equals("0") ? null : parseDuration(value);
+    }
+
+    /**
+     * Parses 500ms, 30s, 2m or a bare number of seconds
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text));
+    }
+
+    /**
+     * Parses size:weight pairs such as 1:60,100:30,10000:10; a size without a weight counts once
+     */
+    static List<BatchWeight> parseBatchMix(String value) {
+        List<BatchWeight> mix = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int size = Integer.parseInt(parts[0].trim());
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (size < 1 || weight < 1) {
+                throw new IllegalArgumentException("Batch sizes and weights must be positive: " + entry);
+            }
+            mix.add(new BatchWeight(size, weight));
+        }
+        return List.copyOf(mix);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.required_remainder_be.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Summary of the measured part of a run, checked against the configured thresholds. The
+ * summary goes to the console and to summary.txt, the full latency distribution to
+ * latency.hgrm, which HdrHistogram's plotter reads.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    /**
+     * @param name   What was checked
+     * @param actual The measured value, formatted
+     * @param limit  The threshold, formatted
+     */
+    record Check(String name, String actual, String limit, boolean passed) {
+    }
+
+    private final LoadTestConfig config;
+    private final LoadGenerator.Result result;
+    private final List<Check> checks = new ArrayList<>();
+
+    LoadTestReport(LoadTestConfig config, LoadGenerator.Result result) {
+        this.config = config;
+        this.result = result;
+        if (config.maxP99() != null) {
+            checkLatency("p99", 99, config.maxP99());
+        }
+        if (config.maxP999() != null) {
+            checkLatency("p99.9", 99.9, config.maxP999());
+        }
+        if (config.minThroughput() > 0) {
+            checks.add(new Check("throughput", format("%.1f req/s", throughput()),
+                    format(">= %.1f req/s", config.minThroughput()), throughput() >= config.minThroughput()));
+        }
+        checks.add(new Check("error rate", format("%.4f%%", errorRate() * 100),
+                format("<= %.4f%%", config.maxErrorRate() * 100),
+                result.requests() > 0 && errorRate() <= config.maxErrorRate()));
+    }
+
+    private void checkLatency(String name, double percentile, Duration limit) {
+        double actual = millisAt(percentile);
+        checks.add(new Check(name, format("%.2f ms", actual), format("<= %d ms", limit.toMillis()),
+                result.requests() > 0 && actual <= limit.toMillis()));
+    }
+
+    boolean passed() {
+        return checks.stream().allMatch(Check::passed);
+    }
+
+    double throughput() {
+        return result.requests() / seconds();
+    }
+
+    double errorRate() {
+        return result.requests() == 0 ? 0 : (double) result.errors() / result.requests();
+    }
+
+    private double seconds() {
+        return result.elapsed().toNanos() / 1e9;
+    }
+
+    private double millisAt(double percentile) {
+        return result.latencyMicros().getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    void print(PrintStream out) {
+        Histogram latency = result.latencyMicros();
+        out.println();
+        out.printf(Locale.ROOT, "Model       %s, concurrency %d%s%n", config.model().name().toLowerCase(Locale.ROOT),
+                config.concurrency(), config.rate() > 0 ? format(", target %.1f req/s", config.rate()) : "");
+        out.printf(Locale.ROOT, "Workload    batch mix %s, %.1f%% invalid, %s%n", describeMix(),
+                config.invalidRatio() * 100, config.binary() ? "binary" : "json");
+        out.printf(Locale.ROOT, "Measured    %d requests, %d cases, %d errors in %.1fs%n",
+                result.requests(), result.cases(), result.errors(), seconds());
+        out.printf(Locale.ROOT, "Throughput  %.1f req/s, %.1f cases/s%n", throughput(), result.cases() / seconds());
+        StringBuilder percentiles = new StringBuilder("Latency    ");
+        for (double percentile : PERCENTILES) {
+            percentiles.append(format("  p%s %.2f ms", trim(percentile), millisAt(percentile)));
+        }
+        percentiles.append(format("  max %.2f ms", latency.getMaxValue() / MICROS_PER_MILLI));
+        out.println(percentiles);
+        if (config.model() == LoadTestConfig.Model.CLOSED && config.rate() <= 0) {
+            out.println("            closed model without a rate: service time only, not corrected for"
+                    + " coordinated omission");
+        }
+        out.println();
+        for (Check check : checks) {
+            out.printf(Locale.ROOT, "%-4s %-11s %-14s %s%n", check.passed() ? "PASS" : "FAIL",
+                    check.name(), check.actual(), check.limit());
+        }
+    }
+
+    /**
+     * Writes summary.txt and latency.hgrm into the report directory
+     */
+    void write() throws IOException {
+        Path directory = config.reportDir();
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")),
+                false, StandardCharsets.UTF_8)) {
+            print(summary);
+        }
+        try (PrintStream distribution = new PrintStream(Files.newOutputStream(directory.resolve("latency.hgrm")),
+                false, StandardCharsets.UTF_8)) {
+            // values are recorded in microseconds and reported in milliseconds
+            result.latencyMicros().outputPercentileDistribution(distribution, MICROS_PER_MILLI);
+        }
+    }
+
+    private String describeMix() {
+        StringBuilder mix = new StringBuilder();
+        for (LoadTestConfig.BatchWeight entry : config.batchMix()) {
+            if (!mix.isEmpty()) {
+                mix.append(',');
+            }
+            mix.append(entry.size()).append(':').append(entry.weight());
+        }
+        return mix.toString();
+    }
+
+    private static String trim(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    private static String format(String format, Object... args) {
+        return String.format(Locale.ROOT, format, args);
+    }
+}
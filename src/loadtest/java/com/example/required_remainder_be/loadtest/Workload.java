@@ -0,0 +1,114 @@
+package com.example.required_remainder_be.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Pre-built solve requests drawn according to the batch mix. Bodies are generated once, a
+ * few variants per size, so the generator spends its time sending rather than serializing.
+ */
+final class Workload {
+
+    private static final String SOLVE_PATH = "/api/required-remainder/solve";
+    private static final String BINARY_MEDIA_TYPE = "application/x-required-remainder";
+    private static final int VARIANTS_PER_SIZE = 8;
+    private static final long SEED = 42L;
+    private static final long MAX_VALUE = 1_000_000_000L;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * A ready-to-send request
+     *
+     * @param cases Cases in the body
+     */
+    record Call(HttpRequest request, int cases) {
+    }
+
+    private final Call[][] calls;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    Workload(LoadTestConfig config) {
+        URI uri = URI.create(config.baseUrl() + SOLVE_PATH);
+        List<LoadTestConfig.BatchWeight> mix = config.batchMix();
+        SplittableRandom random = new SplittableRandom(SEED);
+        calls = new Call[mix.size()][VARIANTS_PER_SIZE];
+        cumulativeWeights = new int[mix.size()];
+        int weight = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            int size = mix.get(i).size();
+            for (int v = 0; v < VARIANTS_PER_SIZE; v++) {
+                long[][] cases = cases(random, size, config.invalidRatio());
+                calls[i][v] = new Call(request(uri, cases, config.binary()), size);
+            }
+            weight += mix.get(i).weight();
+            cumulativeWeights[i] = weight;
+        }
+        totalWeight = weight;
+    }
+
+    Call next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(totalWeight);
+        int entry = 0;
+        while (pick >= cumulativeWeights[entry]) {
+            entry++;
+        }
+        return calls[entry][random.nextInt(VARIANTS_PER_SIZE)];
+    }
+
+    private static long[][] cases(SplittableRandom random, int size, double invalidRatio) {
+        long[][] cases = new long[size][];
+        for (int i = 0; i < size; i++) {
+            long x = random.nextLong(2, MAX_VALUE + 1);
+            long y = random.nextLong(0, x);
+            long n = random.nextLong(y, MAX_VALUE + 1);
+            if (random.nextDouble() < invalidRatio) {
+                // rotate through the three validation failures
+                switch (i % 3) {
+                    case 0 -> x = 1;
+                    case 1 -> y = x;
+                    default -> n = MAX_VALUE + 1;
+                }
+            }
+            cases[i] = new long[]{x, y, n};
+        }
+        return cases;
+    }
+
+    private static HttpRequest request(URI uri, long[][] cases, boolean binary) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT);
+        if (binary) {
+            ByteBuffer body = ByteBuffer.allocate(cases.length * 3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (long[] c : cases) {
+                // out-of-range values only occur as invalid cases and still fit an int32
+                body.putInt((int) c[0]).putInt((int) c[1]).putInt((int) c[2]);
+            }
+            return builder.header("Content-Type", BINARY_MEDIA_TYPE)
+                    .header("Accept", BINARY_MEDIA_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.array()))
+                    .build();
+        }
+        StringBuilder json = new StringBuilder(cases.length * 40).append('[');
+        for (int i = 0; i < cases.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"x\":").append(cases[i][0])
+                    .append(",\"y\":").append(cases[i][1])
+                    .append(",\"n\":").append(cases[i][2])
+                    .append('}');
+        }
+        byte[] body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+}
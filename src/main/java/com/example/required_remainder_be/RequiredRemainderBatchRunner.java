@@ -0,0 +1,38 @@
+package com.example.required_remainder_be;
+
+import com.example.required_remainder_be.config.BatchProperties;
+import com.example.required_remainder_be.service.MappedFileSolveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Solves {@code app.batch.input} into {@code app.batch.output} once the context is up;
+ * the application exits afterwards instead of serving HTTP.
+ */
+@Component
+@Profile(RequiredRemainderBatchRunner.BATCH_PROFILE)
+@Slf4j
+public class RequiredRemainderBatchRunner implements CommandLineRunner {
+
+    public static final String BATCH_PROFILE = "batch";
+
+    private final MappedFileSolveService mappedFileSolveService;
+    private final BatchProperties batchProperties;
+
+    public RequiredRemainderBatchRunner(MappedFileSolveService mappedFileSolveService,
+                                        BatchProperties batchProperties) {
+        this.mappedFileSolveService = mappedFileSolveService;
+        this.batchProperties = batchProperties;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (batchProperties.getInput() == null || batchProperties.getOutput() == null) {
+            throw new IllegalStateException("app.batch.input and app.batch.output must be set in batch mode");
+        }
+        log.info("Solving {} into {}", batchProperties.getInput(), batchProperties.getOutput());
+        mappedFileSolveService.solve(batchProperties.getInput(), batchProperties.getOutput());
+    }
+}
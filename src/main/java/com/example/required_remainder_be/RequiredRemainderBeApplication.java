@@ -2,15 +2,24 @@ package com.example.required_remainder_be;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class RequiredRemainderBeApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(RequiredRemainderBeApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(RequiredRemainderBeApplication.class, args);
+		if (context.getEnvironment().matchesProfiles(RequiredRemainderBatchRunner.BATCH_PROFILE)) {
+			// the batch runner has finished by now
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 	@Bean
@@ -0,0 +1,36 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission control for the batch solve endpoints, bound from {@code app.admission.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    /**
+     * Check requests against the limits below
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cases one request may contain; larger requests are answered with 413
+     */
+    private long maxCasesPerRequest = 2_000_000;
+
+    /**
+     * Cases all requests being handled may hold together; beyond it requests are answered with 503
+     */
+    private long maxInFlightCases = 8_000_000;
+
+    /**
+     * Sent as Retry-After with 503 answers
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,41 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Offline file solving settings, bound from {@code app.batch.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.batch")
+public class BatchProperties {
+
+    /**
+     * Packed little-endian int32 (x, y, n) triples to solve
+     */
+    private Path input;
+
+    /**
+     * Receives one little-endian int64 result per case, replaced if it exists
+     */
+    private Path output;
+
+    /**
+     * Cases mapped and solved by one worker at a time
+     */
+    private int chunkCases = 1_048_576;
+
+    /**
+     * Worker threads, 0 means one per available processor
+     */
+    private int parallelism = 0;
+
+    /**
+     * Write every output chunk through to the storage device before moving on
+     */
+    private boolean force = true;
+}
@@ -0,0 +1,55 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Result cache settings, bound from {@code app.cache.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private final Batch batch = new Batch();
+    private final Triple triple = new Triple();
+
+    /**
+     * Whole-response cache keyed on the raw request body, checked before binding
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        private boolean enabled = true;
+
+        /**
+         * Memory held by cached request bodies and responses together
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Larger request bodies are never cached, so big batches keep streaming
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Per-(x, y, n) cache in front of GET /solve; off by default because
+     * FindMaxKBenchmark shows a lookup costs more than recomputing
+     */
+    @Getter
+    @Setter
+    public static class Triple {
+
+        private boolean enabled = false;
+
+        private long maxEntries = 100_000;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Single-case micro-batching settings, bound from {@code app.coalescer.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.coalescer")
+public class CoalescerProperties {
+
+    /**
+     * Solve concurrent single-case requests together; when off each is solved on its own thread
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cases solved at most by one micro-batch
+     */
+    private int maxBatch = 1024;
+
+    /**
+     * How long a batch that is not full may wait for more cases; 0 only takes the cases
+     * already queued, so a request never waits for others to arrive
+     */
+    private Duration maxWait = Duration.ZERO;
+}
@@ -0,0 +1,25 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Error logging settings, bound from {@code app.errors.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.errors")
+public class ErrorLoggingProperties {
+
+    /**
+     * Client errors logged at most per second; the rest are counted and reported
+     * with the next line that gets through. 0 or less logs every error.
+     */
+    private int clientLogPermitsPerSecond = 20;
+
+    /**
+     * Unexpected server errors, logged with their stack trace, at most per second
+     */
+    private int serverLogPermitsPerSecond = 5;
+}
@@ -0,0 +1,37 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * gRPC server settings, bound from {@code app.grpc.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcProperties {
+
+    /**
+     * Serve the gRPC API next to the HTTP one
+     */
+    private boolean enabled = true;
+
+    /**
+     * Port of the gRPC server, 0 picks a free one
+     */
+    private int port = 9090;
+
+    /**
+     * Largest request message, and so the largest chunk, the server accepts
+     */
+    private DataSize maxInboundMessageSize = DataSize.ofMegabytes(16);
+
+    /**
+     * How long calls in progress may run on after shutdown has begun
+     */
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+}
@@ -0,0 +1,41 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Background solve job settings, bound from {@code app.jobs.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jobs")
+public class JobProperties {
+
+    /**
+     * Threads solving jobs in the background
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Jobs that may wait for a worker before new submissions are rejected
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Cases solved between two progress updates
+     */
+    private int chunkSize = 65_536;
+
+    /**
+     * How long a finished job and its results are kept
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Largest number of results returned by one page
+     */
+    private int maxPageSize = 10_000;
+}
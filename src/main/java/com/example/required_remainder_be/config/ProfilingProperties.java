@@ -0,0 +1,54 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR recording settings, bound from {@code app.profiling.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    /**
+     * Keep a low-overhead recording with the JDK's "default" settings running at all times,
+     * so the minutes before a slowdown can be fetched after the fact
+     */
+    private boolean continuous = true;
+
+    /**
+     * How far back the continuous recording reaches
+     */
+    private Duration continuousMaxAge = Duration.ofMinutes(10);
+
+    /**
+     * JFR settings of an on-demand recording, "default" or the more detailed "profile"
+     */
+    private String settings = "profile";
+
+    /**
+     * Length of an on-demand recording when none is requested
+     */
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    /**
+     * Longest on-demand recording that can be requested
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * Disk space one recording may use before its oldest data is dropped
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    /**
+     * Where recordings are written
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "required-remainder-jfr");
+}
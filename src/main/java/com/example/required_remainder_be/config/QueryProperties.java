@@ -0,0 +1,19 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Range query settings, bound from {@code app.query.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.query")
+public class QueryProperties {
+
+    /**
+     * Values of k returned at most by one enumeration request
+     */
+    private long maxPageSize = 1_000_000;
+}
@@ -0,0 +1,52 @@
+package com.example.required_remainder_be.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Batch solving settings, bound from {@code app.solve.*}
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.solve")
+public class SolveProperties {
+
+    /**
+     * Batches with at least this many cases are split across the fork-join pool
+     */
+    private int parallelThreshold = 65_536;
+
+    /**
+     * Worker threads for parallel batches, 0 means one per available processor
+     */
+    private int parallelism = 0;
+
+    /**
+     * Cases solved by one fork-join task, rounded up to a multiple of 64
+     */
+    private int chunkSize = 16_384;
+
+    /**
+     * Solve batches with the SIMD kernel; needs --add-modules jdk.incubator.vector,
+     * otherwise the scalar kernel is used
+     */
+    private boolean vectorKernel = false;
+
+    /**
+     * Fraction of batches, between 0 and 1, whose cases are logged one by one
+     */
+    private double traceSampleRate = 0.0;
+
+    /**
+     * Cases logged at most for one traced batch
+     */
+    private int traceMaxCases = 100;
+
+    /**
+     * Reject a whole JSON batch with 400 when any case breaks the constraints,
+     * instead of answering that case with null. Off by default, which keeps the
+     * per-case contract of /solve and /solve/detailed; only null entries are rejected
+     */
+    private boolean rejectInvalidCases = false;
+}
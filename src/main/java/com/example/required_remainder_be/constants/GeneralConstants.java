@@ -4,10 +4,32 @@ public final class GeneralConstants {
     public static String N_MUST_BE_BETWEEN_Y_AND_10_9 = "n must be between y and 10^9";
     public static String Y_MUST_BE_BETWEEN_0_AND_X_1 = "y must be between 0 and x-1";
     public static String X_MUST_BE_BETWEEN_2_AND_10_9 = "x must be between 2 and 10^9";
+    public static final String LO_MUST_BE_BETWEEN_0_AND_HI = "lo must be between 0 and hi";
+    public static final String HI_MUST_BE_AT_MOST_10_9 = "hi must be between lo and 10^9";
+    public static final String TARGET_MUST_BE_BETWEEN_0_AND_10_9 = "target must be between 0 and 10^9";
+    public static final String NO_VALID_SOLUTION = "No valid solution found for the given constraints";
+    public static final String MALFORMED_REQUEST_BODY = "Malformed request body";
+    public static final String TEST_CASE_CANNOT_BE_NULL = "test case cannot be null";
+    public static final String X_CANNOT_BE_NULL = "x cannot be null";
+    public static final String Y_CANNOT_BE_NULL = "y cannot be null";
+    public static final String N_CANNOT_BE_NULL = "n cannot be null";
+    public static final String TOO_MANY_CASES_IN_REQUEST = "A request may contain at most %d test cases";
+    public static final String TOO_MANY_CASES_IN_FLIGHT = "Too many test cases in progress, retry later";
 
     //controller constants
     public static final String API_REQUIRED_REMAINDER_PATH = "/api/required-remainder";
     public static final String SOLVE_PATH = "/solve";
+    public static final String SOLVE_STREAM_PATH = "/solve/stream";
+    public static final String SOLVE_DETAILED_PATH = "/solve/detailed";
+    public static final String SOLVE_WIDE_PATH = "/solve/wide";
+    public static final String JOBS_PATH = "/jobs";
+    public static final String JOB_PATH = "/jobs/{jobId}";
+    public static final String JOB_RESULTS_PATH = "/jobs/{jobId}/results";
+    public static final String QUERY_COUNT_PATH = "/query/count";
+    public static final String QUERY_MIN_PATH = "/query/min";
+    public static final String QUERY_NEAREST_PATH = "/query/nearest";
+    public static final String QUERY_ENUMERATE_PATH = "/query/ks";
+    public static final String BINARY_MEDIA_TYPE_VALUE = "application/x-required-remainder";
 
 
     public static final int ONE_BILLION = 1_000_000_000;
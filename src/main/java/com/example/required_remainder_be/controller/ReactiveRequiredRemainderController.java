@@ -0,0 +1,41 @@
+package com.example.required_remainder_be.controller;
+
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.service.ReactiveSolveService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_STREAM_PATH;
+
+/**
+ * Solve API for the reactive deployment (profile {@code reactive}); replaces
+ * {@link RequiredRemainderController} when the application runs on WebFlux.
+ * A JSON array response is written element by element, an NDJSON response one line per case.
+ */
+@RestController
+@RequestMapping(API_REQUIRED_REMAINDER_PATH)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequiredRemainderController {
+
+    private final ReactiveSolveService reactiveSolveService;
+
+    public ReactiveRequiredRemainderController(ReactiveSolveService reactiveSolveService) {
+        this.reactiveSolveService = reactiveSolveService;
+    }
+
+    @PostMapping(value = {SOLVE_PATH, SOLVE_STREAM_PATH},
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Optional<Long>> solveCases(@RequestBody Flux<RequiredRemainderRequest> requests) {
+        return reactiveSolveService.solve(requests);
+    }
+}
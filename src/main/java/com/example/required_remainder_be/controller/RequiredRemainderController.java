@@ -1,29 +1,91 @@
 package com.example.required_remainder_be.controller;
 
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderBatchResponse;
 import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.service.RequiredRemainderRequestValidator;
 import com.example.required_remainder_be.service.RequiredRemainderService;
-import jakarta.validation.Valid;
+import com.example.required_remainder_be.service.SingleCaseCoalescer;
+import com.example.required_remainder_be.service.StreamingSolveService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.math.BigInteger;
 import java.util.List;
 
 import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.BINARY_MEDIA_TYPE_VALUE;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_DETAILED_PATH;
 import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_STREAM_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_WIDE_PATH;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(API_REQUIRED_REMAINDER_PATH)
 public class RequiredRemainderController {
 
     private final RequiredRemainderService requiredRemainderService;
+    private final StreamingSolveService streamingSolveService;
+    private final RequiredRemainderRequestValidator requestValidator;
+    private final SingleCaseCoalescer singleCaseCoalescer;
 
-    public RequiredRemainderController(RequiredRemainderService requiredRemainderService) {
+    public RequiredRemainderController(RequiredRemainderService requiredRemainderService,
+                                       StreamingSolveService streamingSolveService,
+                                       RequiredRemainderRequestValidator requestValidator,
+                                       SingleCaseCoalescer singleCaseCoalescer) {
         this.requiredRemainderService = requiredRemainderService;
+        this.streamingSolveService = streamingSolveService;
+        this.requestValidator = requestValidator;
+        this.singleCaseCoalescer = singleCaseCoalescer;
+    }
+
+    /**
+     * Solves one case; concurrent calls are solved together in micro-batches
+     */
+    @GetMapping(SOLVE_PATH)
+    public ResponseEntity<Long> solveCase(@RequestParam long x, @RequestParam long y, @RequestParam long n) {
+        return ResponseEntity.ok(singleCaseCoalescer.findMaxK(x, y, n));
     }
 
     @PostMapping(SOLVE_PATH)
-    public ResponseEntity<List<Long>> solveCases(@Valid @RequestBody List<RequiredRemainderRequest> requests) {
+    public ResponseEntity<List<Long>> solveCases(@RequestBody List<RequiredRemainderRequest> requests) {
+        requestValidator.validate(requests);
         List<Long> results = requiredRemainderService.solveCases(requests);
         return ResponseEntity.ok(results);
     }
+
+    @PostMapping(SOLVE_DETAILED_PATH)
+    public ResponseEntity<RequiredRemainderBatchResponse> solveCasesDetailed(
+            @RequestBody List<RequiredRemainderRequest> requests) {
+        requestValidator.validate(requests);
+        RequiredRemainderBatchResponse response = requiredRemainderService.solveCasesDetailed(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(SOLVE_WIDE_PATH)
+    public ResponseEntity<List<BigInteger>> solveCasesWide(@RequestBody List<WideRequiredRemainderRequest> requests) {
+        List<BigInteger> results = requiredRemainderService.solveCasesWide(requests);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = SOLVE_PATH, consumes = BINARY_MEDIA_TYPE_VALUE, produces = BINARY_MEDIA_TYPE_VALUE)
+    public ResponseEntity<long[]> solveCasesBinary(@RequestBody RequiredRemainderBatch batch) {
+        long[] results = requiredRemainderService.solveBatch(batch);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = SOLVE_STREAM_PATH,
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void solveCasesStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        streamingSolveService.solveStream(request.getInputStream(), response.getOutputStream());
+    }
 }
@@ -0,0 +1,122 @@
+package com.example.required_remainder_be.controller;
+
+import com.example.required_remainder_be.config.QueryProperties;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import com.example.required_remainder_be.util.AsciiLongWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.PrimitiveIterator;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.ONE_BILLION;
+import static com.example.required_remainder_be.constants.GeneralConstants.QUERY_COUNT_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.QUERY_ENUMERATE_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.QUERY_MIN_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.QUERY_NEAREST_PATH;
+
+/**
+ * Range queries over the values k with k mod x = y. Every query is answered in constant time;
+ * an enumeration is streamed as it is computed.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping(API_REQUIRED_REMAINDER_PATH)
+public class RequiredRemainderQueryController {
+
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String NEXT_OFFSET_HEADER = "X-Next-Offset";
+
+    private static final String DEFAULT_LO = "0";
+    private static final String DEFAULT_HI = "" + ONE_BILLION;
+    private static final String DEFAULT_PAGE_SIZE = "1000";
+    private static final int WRITE_BUFFER_SIZE = 8192;
+    // the longest long plus the newline
+    private static final int MAX_LINE_LENGTH = AsciiLongWriter.MAX_LENGTH + 1;
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final long maxPageSize;
+
+    public RequiredRemainderQueryController(RequiredRemainderService requiredRemainderService,
+                                            QueryProperties queryProperties) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.maxPageSize = queryProperties.getMaxPageSize();
+    }
+
+    @GetMapping(QUERY_COUNT_PATH)
+    public ResponseEntity<Long> countK(@RequestParam long x, @RequestParam long y,
+                                       @RequestParam(defaultValue = DEFAULT_LO) long lo,
+                                       @RequestParam(defaultValue = DEFAULT_HI) long hi) {
+        return ResponseEntity.ok(requiredRemainderService.countK(x, y, lo, hi));
+    }
+
+    @GetMapping(QUERY_MIN_PATH)
+    public ResponseEntity<Long> minK(@RequestParam long x, @RequestParam long y,
+                                     @RequestParam(defaultValue = DEFAULT_LO) long lo,
+                                     @RequestParam(defaultValue = DEFAULT_HI) long hi) {
+        return ResponseEntity.ok(requiredRemainderService.minK(x, y, lo, hi));
+    }
+
+    @GetMapping(QUERY_NEAREST_PATH)
+    public ResponseEntity<Long> nearestK(@RequestParam long x, @RequestParam long y, @RequestParam long target) {
+        return ResponseEntity.ok(requiredRemainderService.nearestK(x, y, target));
+    }
+
+    /**
+     * Streams one page of the values k in [lo, hi], one per line. The total number of values
+     * is sent in {@value #TOTAL_COUNT_HEADER} and, when more follow, the offset of the next
+     * page in {@value #NEXT_OFFSET_HEADER}. With descending=true the listing starts at hi,
+     * so offset 0 and limit m give the previous m values of k up to hi.
+     */
+    @GetMapping(value = QUERY_ENUMERATE_PATH, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void enumerateK(@RequestParam long x, @RequestParam long y,
+                           @RequestParam(defaultValue = DEFAULT_LO) long lo,
+                           @RequestParam(defaultValue = DEFAULT_HI) long hi,
+                           @RequestParam(defaultValue = "0") long offset,
+                           @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) long limit,
+                           @RequestParam(defaultValue = "false") boolean descending,
+                           HttpServletResponse response) throws IOException {
+        if (limit > maxPageSize) {
+            throw new ValidationException("limit cannot exceed " + maxPageSize, "limit");
+        }
+        PrimitiveIterator.OfLong values =
+                requiredRemainderService.enumerateK(x, y, lo, hi, offset, limit, descending).iterator();
+        long total = requiredRemainderService.countK(x, y, lo, hi);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(TOTAL_COUNT_HEADER, Long.toString(total));
+        // offset may be as large as Long.MAX_VALUE, so offset + limit is only formed below total
+        if (offset < total && limit < total - offset) {
+            response.setHeader(NEXT_OFFSET_HEADER, Long.toString(offset + limit));
+        }
+        writeLines(values, response.getOutputStream());
+    }
+
+    /**
+     * Writes values as decimal lines through a reused buffer, without a String per value
+     */
+    private static void writeLines(PrimitiveIterator.OfLong values, OutputStream output) throws IOException {
+        byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        int position = 0;
+        while (values.hasNext()) {
+            if (position > buffer.length - MAX_LINE_LENGTH) {
+                output.write(buffer, 0, position);
+                position = 0;
+            }
+            int end = AsciiLongWriter.write(buffer, position, values.nextLong());
+            buffer[end] = '\n';
+            position = end + 1;
+        }
+        output.write(buffer, 0, position);
+        output.flush();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.required_remainder_be.controller;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.SolveJobResponse;
+import com.example.required_remainder_be.dto.SolveJobResultsPage;
+import com.example.required_remainder_be.filter.SolveAdmissionFilter;
+import com.example.required_remainder_be.service.SolveJob;
+import com.example.required_remainder_be.service.RequiredRemainderRequestValidator;
+import com.example.required_remainder_be.service.SolveJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.BINARY_MEDIA_TYPE_VALUE;
+import static com.example.required_remainder_be.constants.GeneralConstants.JOBS_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.JOB_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.JOB_RESULTS_PATH;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping(API_REQUIRED_REMAINDER_PATH)
+public class SolveJobController {
+
+    private static final String DEFAULT_PAGE_SIZE = "1000";
+
+    private final SolveJobService solveJobService;
+    private final RequiredRemainderRequestValidator requestValidator;
+
+    public SolveJobController(SolveJobService solveJobService, RequiredRemainderRequestValidator requestValidator) {
+        this.solveJobService = solveJobService;
+        this.requestValidator = requestValidator;
+    }
+
+    /**
+     * Queues a batch; its admission reservation is held until the job is evicted
+     */
+    @PostMapping(JOBS_PATH)
+    public ResponseEntity<SolveJobResponse> submitJob(@RequestBody List<RequiredRemainderRequest> requests,
+                                                      HttpServletRequest request) {
+        requestValidator.validate(requests);
+        RequiredRemainderBatch batch = RequiredRemainderBatch.fromRequests(requests);
+        return accepted(solveJobService.submit(batch, SolveAdmissionFilter.retainReservation(request)));
+    }
+
+    @PostMapping(value = JOBS_PATH, consumes = BINARY_MEDIA_TYPE_VALUE)
+    public ResponseEntity<SolveJobResponse> submitJobBinary(@RequestBody RequiredRemainderBatch batch,
+                                                            HttpServletRequest request) {
+        return accepted(solveJobService.submit(batch, SolveAdmissionFilter.retainReservation(request)));
+    }
+
+    @GetMapping(JOB_PATH)
+    public ResponseEntity<SolveJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(SolveJobResponse.from(solveJobService.getJob(jobId)));
+    }
+
+    @GetMapping(JOB_RESULTS_PATH)
+    public ResponseEntity<SolveJobResultsPage> getJobResults(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(solveJobService.getResults(jobId, offset, limit));
+    }
+
+    private ResponseEntity<SolveJobResponse> accepted(SolveJob job) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(API_REQUIRED_REMAINDER_PATH + JOB_PATH)
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(SolveJobResponse.from(job));
+    }
+}
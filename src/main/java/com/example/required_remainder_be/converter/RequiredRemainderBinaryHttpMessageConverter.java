@@ -0,0 +1,140 @@
+package com.example.required_remainder_be.converter;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.metrics.RequestBindingEvent;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.BINARY_MEDIA_TYPE_VALUE;
+
+/**
+ * Packed binary wire format for bulk solving.
+ * Requests are little-endian int32 (x, y, n) triples, 12 bytes per case; responses are
+ * little-endian int64 results, 8 bytes per case, with a negative sentinel for failed cases.
+ */
+@Component
+public class RequiredRemainderBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType BINARY_MEDIA_TYPE = MediaType.parseMediaType(BINARY_MEDIA_TYPE_VALUE);
+
+    static final int CASE_BYTES = 3 * Integer.BYTES;
+    static final int RESULT_BYTES = Long.BYTES;
+
+    private static final int BUFFER_CASES = 4096;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_PRESIZED_CAPACITY = 1 << 22;
+
+    public RequiredRemainderBinaryHttpMessageConverter() {
+        super(BINARY_MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RequiredRemainderBatch.class == clazz || long[].class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return RequiredRemainderBatch.class == clazz && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return long[].class == clazz && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        RequestBindingEvent event = new RequestBindingEvent();
+        event.begin();
+        event.format = "binary";
+        event.contentLength = inputMessage.getHeaders().getContentLength();
+        try {
+            RequiredRemainderBatch batch = readBatch(inputMessage);
+            event.cases = batch.getSize();
+            event.succeeded = true;
+            return batch;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private RequiredRemainderBatch readBatch(HttpInputMessage inputMessage) throws IOException {
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength > 0 && contentLength % CASE_BYTES != 0) {
+            throw new HttpMessageNotReadableException(
+                    "Binary request length must be a multiple of " + CASE_BYTES + " bytes", inputMessage);
+        }
+        int capacity = contentLength > 0
+                ? (int) Math.min(contentLength / CASE_BYTES, MAX_PRESIZED_CAPACITY)
+                : MIN_CAPACITY;
+
+        long[] xs = new long[capacity];
+        long[] ys = new long[capacity];
+        long[] ns = new long[capacity];
+        int size = 0;
+
+        byte[] buffer = new byte[BUFFER_CASES * CASE_BYTES];
+        ByteBuffer view = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+        InputStream body = inputMessage.getBody();
+        int filled = 0;
+        int read;
+        while ((read = body.read(buffer, filled, buffer.length - filled)) != -1) {
+            filled += read;
+            int whole = filled - filled % CASE_BYTES;
+            for (int offset = 0; offset < whole; offset += CASE_BYTES) {
+                if (size == xs.length) {
+                    int grown = Math.max(MIN_CAPACITY, xs.length << 1);
+                    xs = Arrays.copyOf(xs, grown);
+                    ys = Arrays.copyOf(ys, grown);
+                    ns = Arrays.copyOf(ns, grown);
+                }
+                xs[size] = view.getInt(offset);
+                ys[size] = view.getInt(offset + Integer.BYTES);
+                ns[size] = view.getInt(offset + 2 * Integer.BYTES);
+                size++;
+            }
+            System.arraycopy(buffer, whole, buffer, 0, filled - whole);
+            filled -= whole;
+        }
+        if (filled != 0) {
+            throw new HttpMessageNotReadableException(
+                    "Binary request ends with a partial test case of " + filled + " bytes", inputMessage);
+        }
+        return new RequiredRemainderBatch(xs, ys, ns, size);
+    }
+
+    @Override
+    protected Long getContentLength(Object results, @Nullable MediaType contentType) {
+        return (long) ((long[]) results).length * RESULT_BYTES;
+    }
+
+    @Override
+    protected void writeInternal(Object results, HttpOutputMessage outputMessage) throws IOException {
+        long[] values = (long[]) results;
+        byte[] buffer = new byte[BUFFER_CASES * RESULT_BYTES];
+        ByteBuffer view = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+        OutputStream body = outputMessage.getBody();
+        for (int start = 0; start < values.length; start += BUFFER_CASES) {
+            int end = Math.min(values.length, start + BUFFER_CASES);
+            view.clear();
+            for (int i = start; i < end; i++) {
+                view.putLong(values[i]);
+            }
+            body.write(buffer, 0, view.position());
+        }
+        body.flush();
+    }
+}
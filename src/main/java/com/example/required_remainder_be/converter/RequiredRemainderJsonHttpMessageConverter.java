@@ -0,0 +1,374 @@
+package com.example.required_remainder_be.converter;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderRequestList;
+import com.example.required_remainder_be.dto.RequiredRemainderResultList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequestList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderResultList;
+import com.example.required_remainder_be.metrics.RequestBindingEvent;
+import com.example.required_remainder_be.util.AsciiLongWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import static com.example.required_remainder_be.dto.RequiredRemainderBatch.MISSING_VALUE;
+
+/**
+ * JSON codec for the solve contract that bypasses Jackson databind: the
+ * {@code List<RequiredRemainderRequest>} body is tokenized straight into primitive arrays
+ * and {@code List<Long>} results are written digit by digit into an output buffer.
+ * Clients see no difference from databind. Values that are not plain integers
+ * (strings, floats) are rare and are handed to the ObjectMapper one at a time, so they
+ * follow the same coercion rules as before.
+ * <p>
+ * The wide contract, {@code List<WideRequiredRemainderRequest>} in and {@code List<BigInteger>}
+ * out, is read into the same arrays: only a value beyond the long range becomes a BigInteger,
+ * and results that fit in a long are written from their array.
+ */
+@Component
+public class RequiredRemainderJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final int MIN_CAPACITY = 1024;
+    // Content-Length is only the client's claim, and admission control counts JSON cases as
+    // they arrive, so presizing stays far below its per-request limit; doubling does the rest
+    private static final int MAX_PRESIZED_CAPACITY = 1 << 16;
+    // {"x":2,"y":0,"n":0} is the shortest complete case
+    private static final int MIN_CASE_BYTES = 19;
+    private static final int BUFFER_BYTES = 8192;
+    // a separator, the longest long and the closing bracket
+    private static final int MAX_ENTRY_BYTES = 1 + AsciiLongWriter.MAX_LENGTH + 1;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final int FIELD_COUNT = 3;
+    private static final int ALL_PRESENT = (1 << FIELD_COUNT) - 1;
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    public RequiredRemainderJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        // the element type is only known from the generic signature
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return (isListOf(type, RequiredRemainderRequest.class) || isListOf(type, WideRequiredRemainderRequest.class))
+                && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return type != null && (isListOf(type, Long.class) || isListOf(type, BigInteger.class)) && canWrite(mediaType);
+    }
+
+    private static boolean isListOf(Type type, Class<?> elementType) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == elementType;
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return read(inputMessage, isListOf(type, WideRequiredRemainderRequest.class));
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(inputMessage, false);
+    }
+
+    private List<?> read(HttpInputMessage inputMessage, boolean wide) throws IOException {
+        RequestBindingEvent event = new RequestBindingEvent();
+        event.begin();
+        event.format = "json";
+        event.contentLength = inputMessage.getHeaders().getContentLength();
+        try {
+            List<?> requests = wide ? readWideRequests(inputMessage) : readRequests(inputMessage);
+            event.cases = requests.size();
+            event.succeeded = true;
+            return requests;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private RequiredRemainderRequestList readRequests(HttpInputMessage inputMessage) throws IOException {
+        TreeMap<Integer, RequiredRemainderRequest> irregularCases = new TreeMap<>();
+        RequiredRemainderBatch batch = readCases(inputMessage, null,
+                (present, big, values, bigValues) -> boundForm(present, values), irregularCases);
+        return new RequiredRemainderRequestList(batch, irregularCases);
+    }
+
+    private WideRequiredRemainderRequestList readWideRequests(HttpInputMessage inputMessage) throws IOException {
+        TreeMap<Integer, WideRequiredRemainderRequest> irregularCases = new TreeMap<>();
+        RequiredRemainderBatch batch = readCases(inputMessage, new BigInteger[FIELD_COUNT],
+                RequiredRemainderJsonHttpMessageConverter::wideBoundForm, irregularCases);
+        return new WideRequiredRemainderRequestList(batch, irregularCases);
+    }
+
+    /**
+     * Reads the array of cases into a batch. A null entry, a case missing a value and, when
+     * big values are read, a case with a value beyond the long range are also recorded in
+     * their bound form; in the batch such a value is {@link RequiredRemainderBatch#MISSING_VALUE}.
+     *
+     * @param bigValues      Receives values beyond the long range, null to reject them as the
+     *                       long contract does
+     * @param irregularCases Receives the bound form of irregular cases by index
+     */
+    private <T> RequiredRemainderBatch readCases(HttpInputMessage inputMessage, @Nullable BigInteger[] bigValues,
+                                                 BoundForm<T> boundForm, TreeMap<Integer, T> irregularCases)
+            throws IOException {
+        try (JsonParser parser = createParser(inputMessage)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("Expected a JSON array of test cases", inputMessage);
+            }
+            long contentLength = inputMessage.getHeaders().getContentLength();
+            int capacity = (int) Math.max(MIN_CAPACITY,
+                    Math.min(contentLength / MIN_CASE_BYTES, MAX_PRESIZED_CAPACITY));
+            long[] xs = new long[capacity];
+            long[] ys = new long[capacity];
+            long[] ns = new long[capacity];
+            long[] values = new long[FIELD_COUNT];
+            int size = 0;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (size == xs.length) {
+                    int grown = xs.length << 1;
+                    xs = Arrays.copyOf(xs, grown);
+                    ys = Arrays.copyOf(ys, grown);
+                    ns = Arrays.copyOf(ns, grown);
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    irregularCases.put(size, null);
+                    xs[size] = MISSING_VALUE;
+                    ys[size] = MISSING_VALUE;
+                    ns[size] = MISSING_VALUE;
+                    size++;
+                    continue;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new HttpMessageNotReadableException(
+                            "Each test case must be a JSON object, found " + token, inputMessage);
+                }
+                int fields = readCase(parser, values, bigValues);
+                int present = fields & ALL_PRESENT;
+                int big = fields >>> FIELD_COUNT;
+                int inLong = present & ~big;
+                xs[size] = (inLong & 1) != 0 ? values[0] : MISSING_VALUE;
+                ys[size] = (inLong & 2) != 0 ? values[1] : MISSING_VALUE;
+                ns[size] = (inLong & 4) != 0 ? values[2] : MISSING_VALUE;
+                if (inLong != ALL_PRESENT) {
+                    irregularCases.put(size, boundForm.of(present, big, values, bigValues));
+                }
+                size++;
+            }
+            return new RequiredRemainderBatch(xs, ys, ns, size);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    private JsonParser createParser(HttpInputMessage inputMessage) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset == null || charset.equals(StandardCharsets.UTF_8)) {
+            // the factory detects UTF-8, -16 and -32 from the bytes
+            return jsonFactory.createParser(inputMessage.getBody());
+        }
+        return jsonFactory.createParser(new InputStreamReader(inputMessage.getBody(), charset));
+    }
+
+    /**
+     * Reads the fields of one case object, ignoring unknown ones as databind does
+     *
+     * @param values    Receives x, y and n
+     * @param bigValues Receives x, y and n when beyond the long range, null to reject such values
+     * @return Bit i set if value i was present and not null, bit i + 3 set if it was put in bigValues
+     */
+    private int readCase(JsonParser parser, long[] values, @Nullable BigInteger[] bigValues) throws IOException {
+        int present = 0;
+        int big = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int index = switch (parser.currentName()) {
+                case "x" -> 0;
+                case "y" -> 1;
+                case "n" -> 2;
+                default -> -1;
+            };
+            JsonToken value = parser.nextToken();
+            if (index < 0) {
+                parser.skipChildren();
+                continue;
+            }
+            int bit = 1 << index;
+            big &= ~bit;
+            if (value == JsonToken.VALUE_NUMBER_INT
+                    && (bigValues == null || parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER)) {
+                values[index] = parser.getLongValue();
+                present |= bit;
+                continue;
+            }
+            if (bigValues == null) {
+                Long coerced = value == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, Long.class);
+                if (coerced != null) {
+                    values[index] = coerced;
+                    present |= bit;
+                } else {
+                    present &= ~bit;
+                }
+                continue;
+            }
+            BigInteger coerced = value == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, BigInteger.class);
+            if (coerced == null) {
+                present &= ~bit;
+            } else if (coerced.bitLength() < Long.SIZE) {
+                values[index] = coerced.longValue();
+                present |= bit;
+            } else {
+                bigValues[index] = coerced;
+                present |= bit;
+                big |= bit;
+            }
+        }
+        return present | big << FIELD_COUNT;
+    }
+
+    /**
+     * Builds the bound form of an irregular case from what {@link #readCase} read
+     */
+    @FunctionalInterface
+    private interface BoundForm<T> {
+
+        T of(int present, int big, long[] values, @Nullable BigInteger[] bigValues);
+    }
+
+    private static RequiredRemainderRequest boundForm(int present, long[] values) {
+        RequiredRemainderRequest request = new RequiredRemainderRequest();
+        request.setX((present & 1) != 0 ? values[0] : null);
+        request.setY((present & 2) != 0 ? values[1] : null);
+        request.setN((present & 4) != 0 ? values[2] : null);
+        return request;
+    }
+
+    private static WideRequiredRemainderRequest wideBoundForm(int present, int big, long[] values,
+                                                              @Nullable BigInteger[] bigValues) {
+        WideRequiredRemainderRequest request = new WideRequiredRemainderRequest();
+        request.setX(wideValue(0, present, big, values, bigValues));
+        request.setY(wideValue(1, present, big, values, bigValues));
+        request.setN(wideValue(2, present, big, values, bigValues));
+        return request;
+    }
+
+    @Nullable
+    private static BigInteger wideValue(int index, int present, int big, long[] values,
+                                        @Nullable BigInteger[] bigValues) {
+        int bit = 1 << index;
+        if ((present & bit) == 0) {
+            return null;
+        }
+        return (big & bit) != 0 ? bigValues[index] : BigInteger.valueOf(values[index]);
+    }
+
+    @Override
+    protected void writeInternal(Object results, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        List<?> values = (List<?>) results;
+        RequiredRemainderResultList solved = results instanceof RequiredRemainderResultList list ? list : null;
+        WideRequiredRemainderResultList wide = results instanceof WideRequiredRemainderResultList list ? list : null;
+        OutputStream body = outputMessage.getBody();
+        byte[] buffer = new byte[BUFFER_BYTES];
+        int position = 0;
+        buffer[position++] = '[';
+        for (int i = 0, size = values.size(); i < size; i++) {
+            if (position > BUFFER_BYTES - MAX_ENTRY_BYTES) {
+                body.write(buffer, 0, position);
+                position = 0;
+            }
+            if (i > 0) {
+                buffer[position++] = ',';
+            }
+            if (solved != null) {
+                position = solved.isFailed(i)
+                        ? writeNull(buffer, position)
+                        : AsciiLongWriter.write(buffer, position, solved.getValue(i));
+                continue;
+            }
+            Object value = wide != null ? wide.getBigValue(i) : values.get(i);
+            if (value == null && wide != null && !wide.isFailed(i)) {
+                position = AsciiLongWriter.write(buffer, position, wide.getValue(i));
+            } else if (value == null) {
+                position = writeNull(buffer, position);
+            } else if (value instanceof Long number) {
+                position = AsciiLongWriter.write(buffer, position, number);
+            } else {
+                position = writeDigits(body, buffer, position, value.toString().getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        buffer[position++] = ']';
+        body.write(buffer, 0, position);
+        body.flush();
+    }
+
+    private static int writeNull(byte[] buffer, int position) {
+        System.arraycopy(NULL, 0, buffer, position, NULL.length);
+        return position + NULL.length;
+    }
+
+    /**
+     * Writes the digits of a value beyond the long range, flushing the buffer first when they do not fit
+     *
+     * @return The position after the last digit
+     */
+    private static int writeDigits(OutputStream body, byte[] buffer, int position, byte[] digits) throws IOException {
+        if (position + digits.length > BUFFER_BYTES - 1) {
+            body.write(buffer, 0, position);
+            position = 0;
+            if (digits.length > BUFFER_BYTES - 1) {
+                body.write(digits);
+                return 0;
+            }
+        }
+        System.arraycopy(digits, 0, buffer, position, digits.length);
+        return position + digits.length;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.required_remainder_be.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Test cases stored as parallel primitive arrays, one entry per case.
+ * Only the first {@code size} entries of each array are meaningful.
+ */
+@Getter
+public class RequiredRemainderBatch {
+
+    /**
+     * Stored for a value the client left out or sent as null
+     */
+    public static final long MISSING_VALUE = -1L;
+
+    private final long[] xs;
+    private final long[] ys;
+    private final long[] ns;
+    private final int size;
+
+    public RequiredRemainderBatch(long[] xs, long[] ys, long[] ns, int size) {
+        if (xs.length < size || ys.length < size || ns.length < size) {
+            throw new IllegalArgumentException("Batch arrays are shorter than size " + size);
+        }
+        this.xs = xs;
+        this.ys = ys;
+        this.ns = ns;
+        this.size = size;
+    }
+
+    /**
+     * Copies bound requests into primitive arrays. A missing value is stored as a negative
+     * number, which never passes validation, so the case is reported as failed.
+     * Requests read by the JSON codec already are a batch and are not copied.
+     */
+    public static RequiredRemainderBatch fromRequests(List<RequiredRemainderRequest> requests) {
+        if (requests instanceof RequiredRemainderRequestList list) {
+            return list.getBatch();
+        }
+        int size = requests.size();
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            RequiredRemainderRequest request = requests.get(i);
+            xs[i] = valueOrMissing(request.getX());
+            ys[i] = valueOrMissing(request.getY());
+            ns[i] = valueOrMissing(request.getN());
+        }
+        return new RequiredRemainderBatch(xs, ys, ns, size);
+    }
+
+    private static long valueOrMissing(Long value) {
+        return value != null ? value : MISSING_VALUE;
+    }
+}
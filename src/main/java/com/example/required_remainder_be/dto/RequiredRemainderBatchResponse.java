@@ -0,0 +1,24 @@
+package com.example.required_remainder_be.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RequiredRemainderBatchResponse {
+
+    private List<Long> results;
+    private int failed;
+    private List<CaseError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class CaseError {
+        private int index;
+        private String code;
+        private String field;
+        private String message;
+    }
+}
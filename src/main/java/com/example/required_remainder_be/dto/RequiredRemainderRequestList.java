@@ -0,0 +1,54 @@
+package com.example.required_remainder_be.dto;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of test cases held as a {@link RequiredRemainderBatch}, as read by the
+ * JSON codec. Elements are created on access. Null entries and cases with a missing value
+ * are kept in their bound form, so validation sees exactly what the client sent; in the
+ * batch their missing values are negative, as {@link RequiredRemainderBatch#fromRequests} stores them.
+ */
+public class RequiredRemainderRequestList extends AbstractList<RequiredRemainderRequest> implements RandomAccess {
+
+    private final RequiredRemainderBatch batch;
+    private final NavigableMap<Integer, RequiredRemainderRequest> irregularCases;
+
+    public RequiredRemainderRequestList(RequiredRemainderBatch batch,
+                                        NavigableMap<Integer, RequiredRemainderRequest> irregularCases) {
+        this.batch = batch;
+        this.irregularCases = irregularCases;
+    }
+
+    public RequiredRemainderBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Null entries and cases missing a value, by index in ascending order
+     */
+    public NavigableMap<Integer, RequiredRemainderRequest> getIrregularCases() {
+        return Collections.unmodifiableNavigableMap(irregularCases);
+    }
+
+    @Override
+    public RequiredRemainderRequest get(int index) {
+        Objects.checkIndex(index, batch.getSize());
+        if (!irregularCases.isEmpty() && irregularCases.containsKey(index)) {
+            return irregularCases.get(index);
+        }
+        RequiredRemainderRequest request = new RequiredRemainderRequest();
+        request.setX(batch.getXs()[index]);
+        request.setY(batch.getYs()[index]);
+        request.setN(batch.getNs()[index]);
+        return request;
+    }
+
+    @Override
+    public int size() {
+        return batch.getSize();
+    }
+}
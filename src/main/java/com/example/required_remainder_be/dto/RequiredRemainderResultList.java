@@ -0,0 +1,44 @@
+package com.example.required_remainder_be.dto;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of solved results as {@code List<Long>}, null for failed cases. Values are
+ * only boxed when read through {@link #get}; the JSON codec writes them from the arrays.
+ */
+public class RequiredRemainderResultList extends AbstractList<Long> implements RandomAccess {
+
+    private final long[] values;
+    private final long[] failures;
+
+    /**
+     * @param values   One result per case
+     * @param failures Failure bitmap, one bit per case
+     */
+    public RequiredRemainderResultList(long[] values, long[] failures) {
+        this.values = values;
+        this.failures = failures;
+    }
+
+    public boolean isFailed(int index) {
+        return (failures[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * The result of a case that did not fail
+     */
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Long get(int index) {
+        return isFailed(index) ? null : values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.required_remainder_be.dto;
+
+import com.example.required_remainder_be.service.SolveJob;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SolveJobResponse {
+
+    private String jobId;
+    private SolveJob.State state;
+    private int total;
+    private int processed;
+    private int failed;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant submittedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant completedAt;
+
+    public static SolveJobResponse from(SolveJob job) {
+        // read processed before failed: the worker publishes failed first
+        int processed = job.getProcessed();
+        return new SolveJobResponse(job.getId(), job.getState(), job.getTotal(), processed,
+                job.getFailed(), job.getSubmittedAt(), job.getCompletedAt());
+    }
+}
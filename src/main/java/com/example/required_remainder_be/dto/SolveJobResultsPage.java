@@ -0,0 +1,23 @@
+package com.example.required_remainder_be.dto;
+
+import com.example.required_remainder_be.service.SolveJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SolveJobResultsPage {
+
+    private String jobId;
+    private SolveJob.State state;
+    private int offset;
+    private int total;
+    private List<Long> results;
+
+    /**
+     * Offset of the next page, null once the last result has been returned
+     */
+    private Integer nextOffset;
+}
@@ -0,0 +1,21 @@
+package com.example.required_remainder_be.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigInteger;
+
+/**
+ * Test case without the 10^9 ceiling. Values may be sent as JSON numbers of any size,
+ * or as strings for clients that cannot represent large numbers exactly.
+ */
+@Getter
+@Setter
+public class WideRequiredRemainderRequest {
+
+    private BigInteger x;
+
+    private BigInteger y;
+
+    private BigInteger n;
+}
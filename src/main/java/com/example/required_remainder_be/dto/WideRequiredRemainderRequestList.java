@@ -0,0 +1,101 @@
+package com.example.required_remainder_be.dto;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+import static com.example.required_remainder_be.dto.RequiredRemainderBatch.MISSING_VALUE;
+
+/**
+ * Read-only list of wide test cases held as a {@link RequiredRemainderBatch}, as read by the
+ * JSON codec. Cases whose values fit in a long live only in the batch; null entries, cases
+ * with a missing value and cases with a value beyond the long range are kept in their bound
+ * form. In the batch such a value is negative, so the long path always fails those cases.
+ * Elements are created on access.
+ */
+public class WideRequiredRemainderRequestList extends AbstractList<WideRequiredRemainderRequest>
+        implements RandomAccess {
+
+    private final RequiredRemainderBatch batch;
+    private final NavigableMap<Integer, WideRequiredRemainderRequest> irregularCases;
+
+    public WideRequiredRemainderRequestList(RequiredRemainderBatch batch,
+                                            NavigableMap<Integer, WideRequiredRemainderRequest> irregularCases) {
+        this.batch = batch;
+        this.irregularCases = irregularCases;
+    }
+
+    /**
+     * Splits bound requests into a batch and their irregular cases.
+     * Requests read by the JSON codec already are such a list and are not copied.
+     */
+    public static WideRequiredRemainderRequestList fromRequests(List<WideRequiredRemainderRequest> requests) {
+        if (requests instanceof WideRequiredRemainderRequestList list) {
+            return list;
+        }
+        int size = requests.size();
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        TreeMap<Integer, WideRequiredRemainderRequest> irregularCases = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            WideRequiredRemainderRequest request = requests.get(i);
+            if (request == null) {
+                irregularCases.put(i, null);
+                xs[i] = MISSING_VALUE;
+                ys[i] = MISSING_VALUE;
+                ns[i] = MISSING_VALUE;
+                continue;
+            }
+            xs[i] = longOrMissing(request.getX());
+            ys[i] = longOrMissing(request.getY());
+            ns[i] = longOrMissing(request.getN());
+            if (!fitsInLong(request.getX()) || !fitsInLong(request.getY()) || !fitsInLong(request.getN())) {
+                irregularCases.put(i, request);
+            }
+        }
+        return new WideRequiredRemainderRequestList(new RequiredRemainderBatch(xs, ys, ns, size), irregularCases);
+    }
+
+    private static boolean fitsInLong(BigInteger value) {
+        return value != null && value.bitLength() < Long.SIZE;
+    }
+
+    private static long longOrMissing(BigInteger value) {
+        return fitsInLong(value) ? value.longValue() : MISSING_VALUE;
+    }
+
+    public RequiredRemainderBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Null entries, cases missing a value and cases beyond the long range, by index in ascending order
+     */
+    public NavigableMap<Integer, WideRequiredRemainderRequest> getIrregularCases() {
+        return Collections.unmodifiableNavigableMap(irregularCases);
+    }
+
+    @Override
+    public WideRequiredRemainderRequest get(int index) {
+        Objects.checkIndex(index, batch.getSize());
+        if (!irregularCases.isEmpty() && irregularCases.containsKey(index)) {
+            return irregularCases.get(index);
+        }
+        WideRequiredRemainderRequest request = new WideRequiredRemainderRequest();
+        request.setX(BigInteger.valueOf(batch.getXs()[index]));
+        request.setY(BigInteger.valueOf(batch.getYs()[index]));
+        request.setN(BigInteger.valueOf(batch.getNs()[index]));
+        return request;
+    }
+
+    @Override
+    public int size() {
+        return batch.getSize();
+    }
+}
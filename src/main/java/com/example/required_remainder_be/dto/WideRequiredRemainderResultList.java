@@ -0,0 +1,65 @@
+package com.example.required_remainder_be.dto;
+
+import org.springframework.lang.Nullable;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.NavigableMap;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of wide results as {@code List<BigInteger>}, null for failed cases. Results
+ * that fit in a long are held in an array and only become BigIntegers when read through
+ * {@link #get}; the JSON codec writes them from the array. Only results beyond the long
+ * range are BigIntegers to begin with.
+ */
+public class WideRequiredRemainderResultList extends AbstractList<BigInteger> implements RandomAccess {
+
+    private final long[] values;
+    private final long[] failures;
+    private final NavigableMap<Integer, BigInteger> bigValues;
+
+    /**
+     * @param values    One result per case
+     * @param failures  Failure bitmap, one bit per case
+     * @param bigValues Results beyond the long range, by index; their cases are not marked as failed
+     */
+    public WideRequiredRemainderResultList(long[] values, long[] failures, NavigableMap<Integer, BigInteger> bigValues) {
+        this.values = values;
+        this.failures = failures;
+        this.bigValues = bigValues;
+    }
+
+    public boolean isFailed(int index) {
+        return (failures[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * The result of a case beyond the long range, null for every other case
+     */
+    @Nullable
+    public BigInteger getBigValue(int index) {
+        return bigValues.isEmpty() ? null : bigValues.get(index);
+    }
+
+    /**
+     * The result of a case that did not fail and has no big value
+     */
+    public long getValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public BigInteger get(int index) {
+        BigInteger big = getBigValue(index);
+        if (big != null) {
+            return big;
+        }
+        return isFailed(index) ? null : BigInteger.valueOf(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.required_remainder_be.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * A solve request turned away by admission control, either because it is too large
+ * or because the service is at its in-flight case budget
+ */
+@Getter
+public class AdmissionRejectedException extends RequiredRemainderException {
+
+    /**
+     * When the client may try again, null if retrying the same request cannot succeed
+     */
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String message, HttpStatus status, Duration retryAfter) {
+        super(message, status, status.getReasonPhrase());
+        this.retryAfter = retryAfter;
+    }
+}
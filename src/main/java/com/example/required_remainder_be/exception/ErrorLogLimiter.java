@@ -0,0 +1,42 @@
+package com.example.required_remainder_be.exception;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets a fixed number of log lines through per one-second window and counts the rest,
+ * so an error flood costs a couple of atomic increments per request instead of a log write
+ */
+class ErrorLogLimiter {
+
+    static final long SUPPRESSED = -1L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    ErrorLogLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * @return {@link #SUPPRESSED} if this event must not be logged, otherwise the number of
+     * events suppressed since the last one that was logged
+     */
+    long tryAcquire() {
+        if (permitsPerSecond <= 0) {
+            return 0;
+        }
+        long second = System.currentTimeMillis() / 1_000;
+        long current = window.get();
+        if (second != current && window.compareAndSet(current, second)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() > permitsPerSecond) {
+            suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.required_remainder_be.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes simple error bodies in the {@link com.example.required_remainder_be.dto.ErrorResponse}
+ * JSON layout without going through Jackson. The part that only depends on the error itself
+ * (code, message, field) is serialized once and cached, so a repeated error only encodes
+ * its path and trace id.
+ */
+class ErrorResponseBodies {
+
+    static final int MAX_CACHED_HEADS = 256;
+
+    private final ConcurrentHashMap<Head, byte[]> heads = new ConcurrentHashMap<>();
+
+    ResponseEntity<byte[]> build(HttpStatus status, String errorCode, String message, String field,
+                                 String path, String traceId) {
+        byte[] head = head(new Head(errorCode, message, field));
+
+        StringBuilder tail = new StringBuilder(64 + (path != null ? path.length() : 0));
+        appendField(tail, "path", path);
+        appendField(tail, "traceId", traceId);
+        tail.append('}');
+        if (head.length == 1 && tail.charAt(0) == ',') {
+            tail.deleteCharAt(0);
+        }
+        byte[] tailBytes = tail.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] body = new byte[head.length + tailBytes.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(tailBytes, 0, body, head.length, tailBytes.length);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(TraceIds.TRACE_ID_HEADER, traceId)
+                .body(body);
+    }
+
+    private byte[] head(Head key) {
+        byte[] head = heads.get(key);
+        if (head == null) {
+            head = key.serialize();
+            // Errors with request-specific messages would only churn the cache
+            if (heads.size() < MAX_CACHED_HEADS) {
+                heads.putIfAbsent(key, head);
+            }
+        }
+        return head;
+    }
+
+    /**
+     * Appends {@code ,"name":"value"}, skipping null values as ErrorResponse does
+     */
+    private static void appendField(StringBuilder json, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        json.append(",\"").append(name).append("\":\"");
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private record Head(String errorCode, String message, String field) {
+
+        byte[] serialize() {
+            StringBuilder json = new StringBuilder(64);
+            json.append('{');
+            appendField(json, "errorCode", errorCode);
+            appendField(json, "message", message);
+            appendField(json, "field", field);
+            if (json.length() > 1) {
+                // drop the separator appendField put before the first field
+                json.deleteCharAt(1);
+            }
+            return json.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
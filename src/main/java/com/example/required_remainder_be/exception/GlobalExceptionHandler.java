@@ -1,13 +1,17 @@
 package com.example.required_remainder_be.exception;
 
+import com.example.required_remainder_be.config.ErrorLoggingProperties;
 import com.example.required_remainder_be.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -15,52 +19,99 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
+import static com.example.required_remainder_be.constants.GeneralConstants.MALFORMED_REQUEST_BODY;
+
+/**
+ * Maps exceptions to error responses. Bodies without validation details are written by
+ * {@link ErrorResponseBodies} instead of Jackson, and logging is rate limited, so a client
+ * flooding the service with bad requests cannot saturate it on error handling alone.
+ */
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ErrorLogLimiter clientErrorLog;
+    private final ErrorLogLimiter serverErrorLog;
+    private final ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies();
+
+    public GlobalExceptionHandler(ErrorLoggingProperties errorLoggingProperties) {
+        this.clientErrorLog = new ErrorLogLimiter(errorLoggingProperties.getClientLogPermitsPerSecond());
+        this.serverErrorLog = new ErrorLogLimiter(errorLoggingProperties.getServerLogPermitsPerSecond());
+    }
+
     /**
      * Handle custom RequiredRemainderException
      */
     @ExceptionHandler(RequiredRemainderException.class)
-    public ResponseEntity<ErrorResponse> handleRequiredRemainderException(
+    public ResponseEntity<byte[]> handleRequiredRemainderException(
             RequiredRemainderException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.error("RequiredRemainderException: {} | TraceId: {}", ex.getMessage(), traceId, ex);
+        String traceId = TraceIds.resolve(request);
+        logClientError("RequiredRemainderException: {}", ex.getMessage(), traceId);
+        
+        return errorResponseBodies.build(ex.getStatus(), ex.getErrorCode(), ex.getMessage(), null,
+                request.getDescription(false), traceId);
+    }
+    
+    /**
+     * Handle requests shed by admission control, telling the client when to come back
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<byte[]> handleAdmissionRejectedException(
+            AdmissionRejectedException ex, WebRequest request) {
+        
+        String traceId = TraceIds.resolve(request);
+        logClientError("Request rejected: {}", ex.getMessage(), traceId);
+        
+        ResponseEntity<byte[]> response = errorResponseBodies.build(ex.getStatus(), ex.getErrorCode(),
+                ex.getMessage(), null, request.getDescription(false), traceId);
+        if (ex.getRetryAfter() == null) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+    
+    /**
+     * Handle test cases rejected by RequiredRemainderRequestValidator
+     */
+    @ExceptionHandler(RequestValidationException.class)
+    public ResponseEntity<ErrorResponse> handleRequestValidationException(
+            RequestValidationException ex, WebRequest request) {
+        
+        String traceId = TraceIds.resolve(request);
+        logClientError("Validation errors: {}", ex.getInvalidCases(), traceId);
         
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .errorCode(ex.getErrorCode())
                 .message(ex.getMessage())
                 .path(request.getDescription(false))
                 .traceId(traceId)
+                .validationErrors(ex.getValidationErrors())
                 .build();
         
-        return ResponseEntity.status(ex.getStatus()).body(errorResponse);
+        return ResponseEntity.status(ex.getStatus())
+                .header(TraceIds.TRACE_ID_HEADER, traceId)
+                .body(errorResponse);
     }
     
     /**
      * Handle ValidationException
      */
     @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(
+    public ResponseEntity<byte[]> handleValidationException(
             ValidationException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.warn("ValidationException: {} | TraceId: {}", ex.getMessage(), traceId);
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(ex.getErrorCode())
-                .message(ex.getMessage())
-                .field(ex.getField())
-                .path(request.getDescription(false))
-                .traceId(traceId)
-                .build();
+        String traceId = TraceIds.resolve(request);
+        logClientError("ValidationException: {}", ex.getMessage(), traceId);
         
-        return ResponseEntity.status(ex.getStatus()).body(errorResponse);
+        return errorResponseBodies.build(ex.getStatus(), ex.getErrorCode(), ex.getMessage(), ex.getField(),
+                request.getDescription(false), traceId);
     }
     
     /**
@@ -70,8 +121,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.warn("Validation errors: {} | TraceId: {}", ex.getBindingResult().getErrorCount(), traceId);
+        String traceId = TraceIds.resolve(request);
+        logClientError("Validation errors: {}", ex.getBindingResult().getErrorCount(), traceId);
         
         List<ErrorResponse.ValidationError> validationErrors = new ArrayList<>();
         
@@ -91,94 +142,105 @@ public class GlobalExceptionHandler {
                 .validationErrors(validationErrors)
                 .build();
         
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.badRequest()
+                .header(TraceIds.TRACE_ID_HEADER, traceId)
+                .body(errorResponse);
     }
     
     /**
      * Handle type conversion errors
      */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<ErrorResponse> handleTypeMismatch(
+    public ResponseEntity<byte[]> handleTypeMismatch(
             MethodArgumentTypeMismatchException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.warn("Type mismatch: {} | TraceId: {}", ex.getMessage(), traceId);
+        String traceId = TraceIds.resolve(request);
+        logClientError("Type mismatch: {}", ex.getMessage(), traceId);
         
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message("Invalid value for parameter '" + ex.getName() + "': " + ex.getValue())
-                .field(ex.getName())
-                .path(request.getDescription(false))
-                .traceId(traceId)
-                .build();
+        return errorResponseBodies.build(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Invalid value for parameter '" + ex.getName() + "': " + ex.getValue(), ex.getName(),
+                request.getDescription(false), traceId);
+    }
+    
+    /**
+     * Handle required query parameters that are absent or empty
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<byte[]> handleMissingParameter(
+            MissingServletRequestParameterException ex, WebRequest request) {
         
-        return ResponseEntity.badRequest().body(errorResponse);
+        String traceId = TraceIds.resolve(request);
+        logClientError("Missing parameter: {}", ex.getParameterName(), traceId);
+        
+        return errorResponseBodies.build(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Missing value for parameter '" + ex.getParameterName() + "'", ex.getParameterName(),
+                request.getDescription(false), traceId);
     }
     
     /**
-     * Handle JSON parsing errors
+     * Handle JSON parsing errors. The parser detail is only logged: it differs for every
+     * malformed body and may echo request content, so the response carries a fixed message.
+     * Admission control rejects a body while it is being read, and Jackson databind wraps that
+     * rejection like a parse error; it is answered as the rejection it is.
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ErrorResponse> handleMessageNotReadable(
+    public ResponseEntity<byte[]> handleMessageNotReadable(
             HttpMessageNotReadableException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.warn("Message not readable: {} | TraceId: {}", ex.getMessage(), traceId);
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof AdmissionRejectedException rejection) {
+                return handleAdmissionRejectedException(rejection, request);
+            }
+        }
         
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(ex.getMessage())
-                .path(request.getDescription(false))
-                .traceId(traceId)
-                .build();
+        String traceId = TraceIds.resolve(request);
+        logClientError("Message not readable: {}", ex.getMessage(), traceId);
         
-        return ResponseEntity.badRequest().body(errorResponse);
+        return errorResponseBodies.build(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                MALFORMED_REQUEST_BODY, null, request.getDescription(false), traceId);
     }
     
     /**
      * Handle IllegalArgumentException
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+    public ResponseEntity<byte[]> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.warn("IllegalArgumentException: {} | TraceId: {}", ex.getMessage(), traceId);
+        String traceId = TraceIds.resolve(request);
+        logClientError("IllegalArgumentException: {}", ex.getMessage(), traceId);
         
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message(ex.getMessage())
-                .path(request.getDescription(false))
-                .traceId(traceId)
-                .build();
-        
-        return ResponseEntity.badRequest().body(errorResponse);
+        return errorResponseBodies.build(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(), null, request.getDescription(false), traceId);
     }
     
     /**
      * Handle other exceptions
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGenericException(
+    public ResponseEntity<byte[]> handleGenericException(
             Exception ex, WebRequest request) {
         
-        String traceId = generateTraceId();
-        logger.error("Unexpected error: {} | TraceId: {}", ex.getMessage(), traceId, ex);
-        
-        List<String> stackTrace = null;
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                .message("An unexpected error occurred. Please try again later.")
-                .path(request.getDescription(false))
-                .traceId(traceId)
-                .stackTrace(stackTrace)
-                .build();
+        String traceId = TraceIds.resolve(request);
+        long suppressed = serverErrorLog.tryAcquire();
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            logger.error("Unexpected error: {} | TraceId: {} | Suppressed since last: {}",
+                    ex.getMessage(), traceId, suppressed, ex);
+        }
         
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return errorResponseBodies.build(HttpStatus.INTERNAL_SERVER_ERROR,
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred. Please try again later.", null,
+                request.getDescription(false), traceId);
     }
 
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+    /**
+     * Logs an expected client error at WARN without a stack trace, within the client log budget
+     */
+    private void logClientError(String format, Object detail, String traceId) {
+        long suppressed = clientErrorLog.tryAcquire();
+        if (suppressed != ErrorLogLimiter.SUPPRESSED && logger.isWarnEnabled()) {
+            logger.warn(format + " | TraceId: {} | Suppressed since last: {}", detail, traceId, suppressed);
+        }
     }
-} 
\ No newline at end of file
+}
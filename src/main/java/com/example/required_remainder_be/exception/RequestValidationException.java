@@ -0,0 +1,33 @@
+package com.example.required_remainder_be.exception;
+
+import com.example.required_remainder_be.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Validation failure of one or more test cases in a request body
+ */
+public class RequestValidationException extends ValidationException {
+
+    private final int invalidCases;
+    private final List<ErrorResponse.ValidationError> validationErrors;
+
+    public RequestValidationException(int invalidCases, List<ErrorResponse.ValidationError> validationErrors) {
+        super("Validation failed for " + invalidCases + " test case(s)",
+                HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase());
+        this.invalidCases = invalidCases;
+        this.validationErrors = validationErrors;
+    }
+
+    public int getInvalidCases() {
+        return invalidCases;
+    }
+
+    /**
+     * Errors for the first invalid cases, at most one per case
+     */
+    public List<ErrorResponse.ValidationError> getValidationErrors() {
+        return validationErrors;
+    }
+}
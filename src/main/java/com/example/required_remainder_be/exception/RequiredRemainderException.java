@@ -3,6 +3,10 @@ package com.example.required_remainder_be.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+/**
+ * Expected failure with a status for the client. Never logged with its stack trace,
+ * so none is captured.
+ */
 @Getter
 public class RequiredRemainderException extends RuntimeException {
     
@@ -10,7 +14,7 @@ public class RequiredRemainderException extends RuntimeException {
     private final String errorCode;
     
     public RequiredRemainderException(String message, HttpStatus status, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
         this.errorCode = errorCode;
     }
@@ -0,0 +1,84 @@
+package com.example.required_remainder_be.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace ids for error responses. An id supplied by the caller or an upstream proxy is reused,
+ * so the error can be correlated across services; otherwise a random one is generated from
+ * {@link ThreadLocalRandom}, which unlike {@code UUID.randomUUID()} shares no lock between threads.
+ */
+public final class TraceIds {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final int MAX_LENGTH = 64;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private TraceIds() {
+    }
+
+    /**
+     * @return The incoming X-Trace-Id, X-Request-Id or W3C traceparent trace id, or a new id
+     */
+    public static String resolve(WebRequest request) {
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (isUsable(traceId)) {
+            return traceId;
+        }
+        traceId = request.getHeader(REQUEST_ID_HEADER);
+        if (isUsable(traceId)) {
+            return traceId;
+        }
+        traceId = fromTraceparent(request.getHeader(TRACEPARENT_HEADER));
+        return traceId != null ? traceId : generate();
+    }
+
+    /**
+     * @return 16 random lowercase hex digits
+     */
+    public static String generate() {
+        long bits = ThreadLocalRandom.current().nextLong();
+        char[] digits = new char[16];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = HEX_DIGITS[(int) bits & 0xF];
+            bits >>>= 4;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Extracts the trace id from a header of the form version-traceid-parentid-flags,
+     * e.g. {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}
+     */
+    static String fromTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-') {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        return isUsable(traceId) ? traceId : null;
+    }
+
+    /**
+     * Only short ids made of letters, digits, '-', '_' and '.' are echoed back,
+     * so a header can neither forge log lines nor break the JSON body
+     */
+    static boolean isUsable(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
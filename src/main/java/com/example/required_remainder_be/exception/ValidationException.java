@@ -3,7 +3,8 @@ package com.example.required_remainder_be.exception;
 import org.springframework.http.HttpStatus;
 
 /**
- * Custom exception for validation errors
+ * Custom exception for validation errors. It reports a client mistake and is never
+ * logged with its stack trace, so none is captured.
  */
 public class ValidationException extends RuntimeException {
     
@@ -12,28 +13,28 @@ public class ValidationException extends RuntimeException {
     private final String field;
     
     public ValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
         this.status = HttpStatus.BAD_REQUEST;
         this.errorCode = "VALIDATION_ERROR";
         this.field = null;
     }
     
     public ValidationException(String message, String field) {
-        super(message);
+        super(message, null, false, false);
         this.status = HttpStatus.BAD_REQUEST;
         this.errorCode = "VALIDATION_ERROR";
         this.field = field;
     }
     
     public ValidationException(String message, HttpStatus status, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
         this.errorCode = errorCode;
         this.field = null;
     }
     
     public ValidationException(String message, HttpStatus status, String errorCode, String field) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
         this.errorCode = errorCode;
         this.field = field;
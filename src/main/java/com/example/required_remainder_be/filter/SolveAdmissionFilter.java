@@ -0,0 +1,350 @@
+package com.example.required_remainder_be.filter;
+
+import com.example.required_remainder_be.config.AdmissionProperties;
+import com.example.required_remainder_be.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.BINARY_MEDIA_TYPE_VALUE;
+import static com.example.required_remainder_be.constants.GeneralConstants.JOBS_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_DETAILED_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_WIDE_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.TOO_MANY_CASES_IN_FLIGHT;
+import static com.example.required_remainder_be.constants.GeneralConstants.TOO_MANY_CASES_IN_REQUEST;
+
+/**
+ * Bounds the cases held by the batch solve endpoints. Cases are counted while the body is
+ * read, before the converters bind them: top-level objects of the JSON array, or 12-byte
+ * records of the binary format. A request over the per-request limit is answered with 413,
+ * and every request reserves its cases from a global in-flight budget in blocks, getting
+ * 503 with Retry-After as soon as a block cannot be reserved. Reservations are returned
+ * when the response is complete, unless the handler keeps the batch longer and retains
+ * them with {@link #retainReservation}, as job submission does.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SolveAdmissionFilter extends OncePerRequestFilter {
+
+    public static final String REJECTED = "required_remainder.admission.rejected";
+    public static final String IN_FLIGHT_CASES = "required_remainder.admission.in_flight_cases";
+
+    static final int RESERVE_BLOCK_CASES = 4096;
+
+    private static final String ADMISSION_ATTRIBUTE = SolveAdmissionFilter.class.getName() + ".admission";
+    private static final Runnable NOTHING_RESERVED = () -> {
+    };
+    private static final Set<String> ADMITTED_PATHS = Set.of(
+            API_REQUIRED_REMAINDER_PATH + SOLVE_PATH,
+            API_REQUIRED_REMAINDER_PATH + SOLVE_DETAILED_PATH,
+            API_REQUIRED_REMAINDER_PATH + SOLVE_WIDE_PATH,
+            API_REQUIRED_REMAINDER_PATH + JOBS_PATH);
+    private static final MediaType BINARY_MEDIA_TYPE = MediaType.parseMediaType(BINARY_MEDIA_TYPE_VALUE);
+    private static final int BINARY_CASE_BYTES = 3 * Integer.BYTES;
+    // {"x":2,"y":0,"n":0} is the shortest JSON case
+    private static final int MIN_JSON_CASE_BYTES = 19;
+    private static final String REASON_TAG = "reason";
+
+    private final boolean enabled;
+    private final long maxCasesPerRequest;
+    private final long maxInFlightCases;
+    private final Duration retryAfter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final AtomicLong inFlightCases = new AtomicLong();
+    private final Counter tooLarge;
+    private final Counter overloaded;
+
+    public SolveAdmissionFilter(AdmissionProperties admissionProperties, MeterRegistry meterRegistry,
+                                @Qualifier("handlerExceptionResolver")
+                                HandlerExceptionResolver handlerExceptionResolver) {
+        this.enabled = admissionProperties.isEnabled();
+        this.maxCasesPerRequest = admissionProperties.getMaxCasesPerRequest();
+        // a request within the per-request limit must be able to run on an idle service
+        this.maxInFlightCases = Math.max(admissionProperties.getMaxInFlightCases(), maxCasesPerRequest);
+        this.retryAfter = admissionProperties.getRetryAfter();
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.tooLarge = rejectedCounter(meterRegistry, "too_large");
+        this.overloaded = rejectedCounter(meterRegistry, "overloaded");
+        Gauge.builder(IN_FLIGHT_CASES, inFlightCases, AtomicLong::get)
+                .description("Test cases reserved by solve requests in progress")
+                .baseUnit("cases")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REJECTED)
+                .description("Solve requests shed by admission control")
+                .tag(REASON_TAG, reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !ADMITTED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        boolean binary = isBinary(request.getContentType());
+        Admission admission = new Admission(binary, contentLength);
+        request.setAttribute(ADMISSION_ATTRIBUTE, admission);
+        try {
+            // a binary body of known length is counted exactly before any of it is read
+            admission.admit(binary && contentLength >= 0 ? contentLength / BINARY_CASE_BYTES : 1);
+            filterChain.doFilter(new AdmittedRequest(request, admission), response);
+        } catch (AdmissionRejectedException e) {
+            // rejected before the dispatcher, or while a filter further down read the body
+            handlerExceptionResolver.resolveException(request, response, null, e);
+        } finally {
+            admission.release();
+        }
+    }
+
+    /**
+     * Keeps the cases reserved by a request in the in-flight budget after its response is
+     * written, for a handler that holds on to the batch, e.g. a queued job. Call it once the
+     * body has been bound.
+     *
+     * @return Returns the reservation to the budget; runs at most once and may be called from
+     * any thread. Does nothing for a request this filter did not admit.
+     */
+    public static Runnable retainReservation(HttpServletRequest request) {
+        return request.getAttribute(ADMISSION_ATTRIBUTE) instanceof Admission admission
+                ? admission.retain()
+                : NOTHING_RESERVED;
+    }
+
+    long getInFlightCases() {
+        return inFlightCases.get();
+    }
+
+    private boolean tryReserve(long cases) {
+        long current;
+        do {
+            current = inFlightCases.get();
+            if (current + cases > maxInFlightCases) {
+                return false;
+            }
+        } while (!inFlightCases.compareAndSet(current, current + cases));
+        return true;
+    }
+
+    private static boolean isBinary(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return BINARY_MEDIA_TYPE.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Case count and reservation of one request
+     */
+    private final class Admission {
+
+        private final boolean binary;
+        private final long caseBound;
+        private long reserved;
+        private long cases;
+        private long bytes;
+        private int depth;
+        private boolean inString;
+        private boolean escaped;
+
+        private Admission(boolean binary, long contentLength) {
+            this.binary = binary;
+            this.caseBound = contentLength < 0
+                    ? Long.MAX_VALUE
+                    : contentLength / (binary ? BINARY_CASE_BYTES : MIN_JSON_CASE_BYTES) + 1;
+        }
+
+        /**
+         * Counts the cases started in a chunk of the body just read
+         */
+        private void scan(byte[] buffer, int offset, int length) {
+            if (binary) {
+                bytes += length;
+                admit(bytes / BINARY_CASE_BYTES);
+                return;
+            }
+            for (int i = offset, end = offset + length; i < end; i++) {
+                byte b = buffer[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                switch (b) {
+                    case '"' -> inString = true;
+                    case '{' -> {
+                        if (depth == 1) {
+                            cases++;
+                        }
+                        depth++;
+                    }
+                    case '[' -> depth++;
+                    case '}', ']' -> depth--;
+                    default -> {
+                        // numbers, separators and whitespace
+                    }
+                }
+            }
+            admit(cases);
+        }
+
+        private void admit(long count) {
+            if (count > maxCasesPerRequest) {
+                tooLarge.increment();
+                throw new AdmissionRejectedException(TOO_MANY_CASES_IN_REQUEST.formatted(maxCasesPerRequest),
+                        HttpStatus.PAYLOAD_TOO_LARGE, null);
+            }
+            if (count <= reserved) {
+                return;
+            }
+            long target = Math.max(count, Math.min(reserved + RESERVE_BLOCK_CASES, caseBound));
+            long wanted = Math.min(target, maxCasesPerRequest) - reserved;
+            if (!tryReserve(wanted)) {
+                overloaded.increment();
+                throw new AdmissionRejectedException(TOO_MANY_CASES_IN_FLIGHT,
+                        HttpStatus.SERVICE_UNAVAILABLE, retryAfter);
+            }
+            reserved += wanted;
+        }
+
+        private void release() {
+            inFlightCases.addAndGet(-reserved);
+            reserved = 0;
+        }
+
+        private Runnable retain() {
+            long retained = reserved;
+            reserved = 0;
+            if (retained == 0) {
+                return NOTHING_RESERVED;
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    inFlightCases.addAndGet(-retained);
+                }
+            };
+        }
+    }
+
+    /**
+     * Feeds every chunk of the body through the admission count as it is read
+     */
+    private static final class AdmittedRequest extends HttpServletRequestWrapper {
+
+        private final Admission admission;
+        private ServletInputStream inputStream;
+
+        private AdmittedRequest(HttpServletRequest request, Admission admission) {
+            super(request);
+            this.admission = admission;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new CountingInputStream(super.getInputStream(), admission);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class CountingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final Admission admission;
+        private final byte[] single = new byte[1];
+
+        private CountingInputStream(ServletInputStream delegate, Admission admission) {
+            this.delegate = delegate;
+            this.admission = admission;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                single[0] = (byte) b;
+                admission.scan(single, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                admission.scan(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.required_remainder_be.filter;
+
+import com.example.required_remainder_be.service.SolveDiagnostics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Turns on case-level diagnostic logging for requests that ask for it
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SolveDiagnosticsFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!Boolean.parseBoolean(request.getHeader(SolveDiagnostics.HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SolveDiagnostics.enable();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SolveDiagnostics.clear();
+        }
+    }
+}
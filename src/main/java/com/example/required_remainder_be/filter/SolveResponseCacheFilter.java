@@ -0,0 +1,132 @@
+package com.example.required_remainder_be.filter;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.example.required_remainder_be.service.SolveDiagnostics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.API_REQUIRED_REMAINDER_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_DETAILED_PATH;
+import static com.example.required_remainder_be.constants.GeneralConstants.SOLVE_PATH;
+
+/**
+ * Answers repeated solve requests from a cache keyed on the exact request body,
+ * before the body is bound, validated or solved. Only small JSON bodies with a
+ * known length are cached, and only successful responses are stored.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SolveResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_NAME = "solve.batch";
+
+    private static final Set<String> CACHED_PATHS = Set.of(
+            API_REQUIRED_REMAINDER_PATH + SOLVE_PATH,
+            API_REQUIRED_REMAINDER_PATH + SOLVE_DETAILED_PATH);
+
+    private final CacheProperties.Batch properties;
+    private final Cache<BatchKey, CachedResponse> cache;
+
+    public SolveResponseCacheFilter(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.properties = cacheProperties.getBatch();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((BatchKey key, CachedResponse value) -> key.body().length + value.body().length)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !CACHED_PATHS.contains(request.getRequestURI())
+                || Boolean.parseBoolean(request.getHeader(SolveDiagnostics.HEADER))) {
+            return true;
+        }
+        long contentLength = request.getContentLengthLong();
+        return contentLength < 0
+                || contentLength > properties.getMaxBodySize().toBytes()
+                || !isJson(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        BatchKey key = new BatchKey(request.getRequestURI(), body);
+
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), responseWrapper);
+            if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && responseWrapper.getContentType() != null) {
+                cache.put(key, new CachedResponse(responseWrapper.getContentAsByteArray(),
+                        responseWrapper.getContentType()));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private record BatchKey(String path, byte[] body, int hash) {
+
+        BatchKey(String path, byte[] body) {
+            this(path, body, 31 * path.hashCode() + Arrays.hashCode(body));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BatchKey key
+                    && hash == key.hash
+                    && path.equals(key.path)
+                    && Arrays.equals(body, key.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record CachedResponse(byte[] body, String contentType) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.required_remainder_be.grpc;
+
+import com.example.required_remainder_be.config.GrpcProperties;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC API on its own port next to the HTTP server. It starts with the context and
+ * stops before the solve pools are shut down, giving calls in progress the grace period.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequiredRemainderGrpcServer implements SmartLifecycle {
+
+    private final Server server;
+    private final Duration shutdownGracePeriod;
+    private volatile boolean running;
+
+    public RequiredRemainderGrpcServer(GrpcProperties grpcProperties,
+                                       RequiredRemainderGrpcService requiredRemainderGrpcService) {
+        this.server = Grpc.newServerBuilderForPort(grpcProperties.getPort(), InsecureServerCredentials.create())
+                .maxInboundMessageSize((int) Math.min(grpcProperties.getMaxInboundMessageSize().toBytes(),
+                        Integer.MAX_VALUE))
+                .addService(requiredRemainderGrpcService)
+                .build();
+        this.shutdownGracePeriod = grpcProperties.getShutdownGracePeriod();
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server", e);
+        }
+        running = true;
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC calls still running after {}, cancelling them", shutdownGracePeriod);
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return The port the server listens on, which differs from the configured one when that is 0
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.required_remainder_be.grpc;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC front end of {@link RequiredRemainderService}. Cases arrive as packed int64 arrays,
+ * are copied once into a {@link RequiredRemainderBatch} and solved on the batch path;
+ * results go back as packed int64 with the negative CaseStatus sentinels.
+ */
+@Component
+@Slf4j
+public class RequiredRemainderGrpcService extends RequiredRemainderGrpc.RequiredRemainderImplBase {
+
+    private final RequiredRemainderService requiredRemainderService;
+
+    public RequiredRemainderGrpcService(RequiredRemainderService requiredRemainderService) {
+        this.requiredRemainderService = requiredRemainderService;
+    }
+
+    @Override
+    public void solve(SolveRequest request, StreamObserver<SolveResponse> responseObserver) {
+        SolveResponse response;
+        try {
+            response = solveChunk(request);
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Answers each chunk in order. Inbound flow control is manual: the next chunk is only
+     * requested while the transport can take more responses, so a client that stops reading
+     * stops the server from reading and solving on its behalf.
+     */
+    @Override
+    public StreamObserver<SolveRequest> solveStream(StreamObserver<SolveResponse> responseObserver) {
+        ServerCallStreamObserver<SolveResponse> serverObserver =
+                (ServerCallStreamObserver<SolveResponse>) responseObserver;
+        serverObserver.disableAutoRequest();
+        ChunkStream stream = new ChunkStream(serverObserver);
+        serverObserver.setOnReadyHandler(stream::onReady);
+        return stream;
+    }
+
+    private SolveResponse solveChunk(SolveRequest request) {
+        int size = request.getXCount();
+        if (request.getYCount() != size || request.getNCount() != size) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("x, y and n must hold the same number of values, got "
+                            + size + ", " + request.getYCount() + " and " + request.getNCount())
+                    .asRuntimeException();
+        }
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = request.getX(i);
+            ys[i] = request.getY(i);
+            ns[i] = request.getN(i);
+        }
+        long[] results = requiredRemainderService.solveBatch(new RequiredRemainderBatch(xs, ys, ns, size));
+
+        SolveResponse.Builder response = SolveResponse.newBuilder();
+        int failed = 0;
+        for (long result : results) {
+            response.addResult(result);
+            if (result < 0) {
+                failed++;
+            }
+        }
+        return response.setFailed(failed).build();
+    }
+
+    /**
+     * Inbound side of one bidirectional call. gRPC never runs two of its callbacks at once.
+     */
+    private final class ChunkStream implements StreamObserver<SolveRequest> {
+
+        private final ServerCallStreamObserver<SolveResponse> responseObserver;
+        private boolean waitingForReady;
+        private boolean started;
+        private boolean failed;
+
+        private ChunkStream(ServerCallStreamObserver<SolveResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        private void onReady() {
+            // ask for the first chunk, or for the next one after a pause for a slow reader
+            if (!failed && responseObserver.isReady() && (!started || waitingForReady)) {
+                started = true;
+                waitingForReady = false;
+                responseObserver.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(SolveRequest request) {
+            if (failed) {
+                return;
+            }
+            try {
+                responseObserver.onNext(solveChunk(request));
+            } catch (StatusRuntimeException e) {
+                failed = true;
+                responseObserver.onError(e);
+                return;
+            }
+            if (responseObserver.isReady()) {
+                responseObserver.request(1);
+            } else {
+                waitingForReady = true;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("Solve stream cancelled by the client: {}", Status.fromThrowable(t));
+        }
+
+        @Override
+        public void onCompleted() {
+            if (!failed) {
+                responseObserver.onCompleted();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.required_remainder_be.metrics;
+
+import com.example.required_remainder_be.config.ProfilingProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@code /actuator/jfr}: Java Flight Recorder recordings on demand.
+ * <ul>
+ *     <li>POST starts a recording bounded in time and size; {@code duration} and
+ *     {@code settings} are optional</li>
+ *     <li>DELETE stops it early</li>
+ *     <li>GET returns the recording as a .jfr file, a snapshot while it is still running;
+ *     with no on-demand recording, a snapshot of the continuous one</li>
+ * </ul>
+ * Recordings carry the {@link SolveBatchEvent}, {@link RequestBindingEvent} and
+ * {@link RequestValidationEvent} events next to the JVM's own, so a latency spike can be
+ * matched to the batches, GC pauses and lock waits around it.
+ * <p>
+ * Recordings include system properties and environment variables, so the endpoint only
+ * exists when it is exposed, which the {@code profiling} profile does on a management port
+ * of its own; the continuous recording only runs then.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@ConditionalOnAvailableEndpoint(endpoint = JfrRecordingEndpoint.class)
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String CONTINUOUS_SETTINGS = "default";
+    private static final String JFR_MEDIA_TYPE = "application/octet-stream";
+    private static final int STATUS_CONFLICT = 409;
+
+    private final ProfilingProperties properties;
+    private final boolean available;
+    private final Recording continuous;
+    private Recording onDemand;
+    private Path onDemandFile;
+
+    public JfrRecordingEndpoint(ProfilingProperties properties) {
+        this.properties = properties;
+        this.available = FlightRecorder.isAvailable();
+        this.continuous = available && properties.isContinuous() ? startContinuous() : null;
+    }
+
+    private Recording startContinuous() {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(CONTINUOUS_SETTINGS));
+            recording.setName("required-remainder-continuous");
+            recording.setToDisk(true);
+            recording.setMaxAge(properties.getContinuousMaxAge());
+            recording.setMaxSize(properties.getMaxSize().toBytes());
+            recording.start();
+            log.info("Continuous JFR recording started, keeping the last {}", properties.getContinuousMaxAge());
+            return recording;
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("Could not start the continuous JFR recording", e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (onDemand != null) {
+            onDemand.close();
+        }
+        if (continuous != null) {
+            continuous.close();
+        }
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration,
+                                                                       @Nullable String settings) {
+        if (!available) {
+            return error(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, "Flight Recorder is not available in this JVM");
+        }
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            return error(STATUS_CONFLICT, "A recording is already running, stop it first");
+        }
+        Duration length = duration != null ? duration : properties.getDefaultDuration();
+        if (length.isNegative() || length.isZero()) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "duration must be positive");
+        }
+        if (length.compareTo(properties.getMaxDuration()) > 0) {
+            length = properties.getMaxDuration();
+        }
+        String settingsName = settings != null ? settings : properties.getSettings();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Unknown JFR settings " + settingsName);
+        }
+
+        discardOnDemand();
+        try {
+            Files.createDirectories(properties.getDirectory());
+            Path file = properties.getDirectory().resolve("required-remainder-" + System.currentTimeMillis() + ".jfr");
+            Recording recording = new Recording(configuration);
+            recording.setName("required-remainder-on-demand");
+            recording.setToDisk(true);
+            recording.setDuration(length);
+            recording.setMaxSize(properties.getMaxSize().toBytes());
+            // written here when the recording stops, at the end of its duration or on DELETE
+            recording.setDestination(file);
+            recording.start();
+            onDemand = recording;
+            onDemandFile = file;
+        } catch (IOException e) {
+            return error(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR, "Could not start a recording: " + e.getMessage());
+        }
+        log.info("JFR recording started for {} with {} settings", length, settingsName);
+        return new WebEndpointResponse<>(describe(onDemand, settingsName), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (onDemand == null || onDemand.getState() != RecordingState.RUNNING) {
+            return error(WebEndpointResponse.STATUS_NOT_FOUND, "No recording is running");
+        }
+        onDemand.stop();
+        log.info("JFR recording stopped, written to {}", onDemandFile);
+        return new WebEndpointResponse<>(describe(onDemand, null), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * The body is streamed after this method returns, so every file is opened here: a
+     * snapshot gets a file of its own that is deleted when the download closes it, and the
+     * finished recording stays readable even if a new start discards it meanwhile
+     */
+    @ReadOperation(produces = JFR_MEDIA_TYPE)
+    public synchronized WebEndpointResponse<Resource> recording() {
+        try {
+            if (onDemand != null) {
+                if (onDemand.getState() == RecordingState.RUNNING) {
+                    return snapshot(onDemand);
+                }
+                if (Files.exists(onDemandFile)) {
+                    return stream(onDemandFile);
+                }
+            }
+            if (continuous != null) {
+                return snapshot(continuous);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write a JFR snapshot", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private WebEndpointResponse<Resource> snapshot(Recording recording) throws IOException {
+        Files.createDirectories(properties.getDirectory());
+        Path file = properties.getDirectory().resolve("snapshot-" + UUID.randomUUID() + ".jfr");
+        try {
+            recording.dump(file);
+            return stream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private void discardOnDemand() {
+        if (onDemand == null) {
+            return;
+        }
+        onDemand.close();
+        try {
+            Files.deleteIfExists(onDemandFile);
+        } catch (IOException e) {
+            log.warn("Could not delete the previous recording {}", onDemandFile, e);
+        }
+        onDemand = null;
+        onDemandFile = null;
+    }
+
+    private static WebEndpointResponse<Resource> stream(Path path, StandardOpenOption... options) throws IOException {
+        Resource body = new InputStreamResource(Files.newInputStream(path, options));
+        return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_OK);
+    }
+
+    private Map<String, Object> describe(Recording recording, @Nullable String settings) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("state", recording.getState().name());
+        if (settings != null) {
+            description.put("settings", settings);
+        }
+        description.put("startTime", recording.getStartTime());
+        description.put("duration", recording.getDuration());
+        description.put("maxSize", recording.getMaxSize());
+        description.put("file", onDemandFile.toString());
+        return description;
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(int status, String message) {
+        return new WebEndpointResponse<>(Map.of("error", message), status);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.required_remainder_be.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the read of a solve request body into test cases
+ */
+@Name(RequestBindingEvent.NAME)
+@Label("Request Binding")
+@Category({"Required Remainder", "Request"})
+@Description("A solve request body read and bound to test cases")
+@StackTrace(false)
+public class RequestBindingEvent extends Event {
+
+    public static final String NAME = "com.example.required_remainder_be.RequestBinding";
+
+    @Label("Format")
+    public String format;
+
+    @Label("Content Length")
+    @DataAmount
+    public long contentLength;
+
+    @Label("Cases")
+    public long cases;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,27 @@
+package com.example.required_remainder_be.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the validation of a bound solve request
+ */
+@Name(RequestValidationEvent.NAME)
+@Label("Request Validation")
+@Category({"Required Remainder", "Request"})
+@Description("A bound solve request checked before solving")
+@StackTrace(false)
+public class RequestValidationEvent extends Event {
+
+    public static final String NAME = "com.example.required_remainder_be.RequestValidation";
+
+    @Label("Cases")
+    public long cases;
+
+    @Label("Invalid Cases")
+    public long invalidCases;
+}
@@ -0,0 +1,37 @@
+package com.example.required_remainder_be.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a solved batch, committed by {@link SolveMetrics#recordBatch} when the batch
+ * is done, so every execution mode emits it. The solve time is a field because the batch has
+ * already finished by then.
+ */
+@Name(SolveBatchEvent.NAME)
+@Label("Solve Batch")
+@Category({"Required Remainder", "Solve"})
+@Description("A batch of test cases solved by the service")
+@StackTrace(false)
+public class SolveBatchEvent extends Event {
+
+    public static final String NAME = "com.example.required_remainder_be.SolveBatch";
+
+    @Label("Execution Mode")
+    public String mode;
+
+    @Label("Cases")
+    public long size;
+
+    @Label("Failed Cases")
+    public long failed;
+
+    @Label("Solve Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long solveTime;
+}
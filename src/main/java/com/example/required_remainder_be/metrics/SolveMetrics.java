@@ -0,0 +1,96 @@
+package com.example.required_remainder_be.metrics;
+
+import com.example.required_remainder_be.service.ExecutionMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solve metrics. Every meter is registered up front, so recording is a lookup-free
+ * counter or histogram update; batch paths record once per batch, never per case.
+ * Each batch is also committed as a {@link SolveBatchEvent} while a JFR recording runs.
+ */
+@Component
+public class SolveMetrics {
+
+    public static final String BATCH_DURATION = "required_remainder.batch.duration";
+    public static final String BATCH_SIZE = "required_remainder.batch.size";
+    public static final String CASES = "required_remainder.cases";
+
+    private static final String MODE_TAG = "mode";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final Map<ExecutionMode, Timer> batchTimers = new EnumMap<>(ExecutionMode.class);
+    private final DistributionSummary batchSize;
+    private final Counter succeeded;
+    private final Counter validationFailed;
+    private final Counter calculationFailed;
+
+    public SolveMetrics(MeterRegistry meterRegistry) {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            batchTimers.put(mode, Timer.builder(BATCH_DURATION)
+                    .description("Time to solve a batch of test cases")
+                    .tag(MODE_TAG, mode.getTag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        batchSize = DistributionSummary.builder(BATCH_SIZE)
+                .description("Test cases per solved batch")
+                .baseUnit("cases")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        succeeded = casesCounter(meterRegistry, "success");
+        validationFailed = casesCounter(meterRegistry, "validation_failure");
+        calculationFailed = casesCounter(meterRegistry, "calculation_failure");
+    }
+
+    private static Counter casesCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(CASES)
+                .description("Solved test cases by outcome")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a finished batch; every failure on the batch path is a validation failure
+     *
+     * @param mode          How the batch was executed
+     * @param size          Test cases in the batch
+     * @param failed        Test cases that failed validation
+     * @param durationNanos Time spent solving
+     */
+    public void recordBatch(ExecutionMode mode, long size, long failed, long durationNanos) {
+        batchTimers.get(mode).record(durationNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(size);
+        succeeded.increment(size - failed);
+        if (failed > 0) {
+            validationFailed.increment(failed);
+        }
+        SolveBatchEvent event = new SolveBatchEvent();
+        if (event.isEnabled()) {
+            event.mode = mode.getTag();
+            event.size = size;
+            event.failed = failed;
+            event.solveTime = durationNanos;
+            event.commit();
+        }
+    }
+
+    public void recordSuccess() {
+        succeeded.increment();
+    }
+
+    public void recordValidationFailure() {
+        validationFailed.increment();
+    }
+
+    public void recordCalculationFailure() {
+        calculationFailed.increment();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.required_remainder_be.service;
+
+import lombok.Getter;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.N_MUST_BE_BETWEEN_Y_AND_10_9;
+import static com.example.required_remainder_be.constants.GeneralConstants.NO_VALID_SOLUTION;
+import static com.example.required_remainder_be.constants.GeneralConstants.X_MUST_BE_BETWEEN_2_AND_10_9;
+import static com.example.required_remainder_be.constants.GeneralConstants.Y_MUST_BE_BETWEEN_0_AND_X_1;
+
+/**
+ * Outcome of solving a single test case on the batch path.
+ * Every failure has a negative sentinel that is stored in place of the result,
+ * so a result array alone tells which cases failed and why.
+ */
+@Getter
+public enum CaseStatus {
+    OK(null, null),
+    INVALID_X("x", X_MUST_BE_BETWEEN_2_AND_10_9),
+    INVALID_Y("y", Y_MUST_BE_BETWEEN_0_AND_X_1),
+    INVALID_N("n", N_MUST_BE_BETWEEN_Y_AND_10_9),
+    NO_SOLUTION(null, NO_VALID_SOLUTION);
+
+    private static final CaseStatus[] VALUES = values();
+
+    private final String field;
+    private final String message;
+    private final long sentinel;
+
+    CaseStatus(String field, String message) {
+        this.field = field;
+        this.message = message;
+        this.sentinel = -ordinal();
+    }
+
+    public boolean isValidationFailure() {
+        return field != null;
+    }
+
+    /**
+     * Maps a value from a result array back to its status
+     *
+     * @param result A result or a failure sentinel
+     * @return OK for non-negative results, otherwise the status the sentinel stands for
+     */
+    public static CaseStatus fromResult(long result) {
+        if (result >= 0) {
+            return OK;
+        }
+        if (result < -(VALUES.length - 1)) {
+            throw new IllegalArgumentException("Unknown result sentinel " + result);
+        }
+        return VALUES[(int) -result];
+    }
+}
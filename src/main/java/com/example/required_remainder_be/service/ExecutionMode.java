@@ -0,0 +1,24 @@
+package com.example.required_remainder_be.service;
+
+import lombok.Getter;
+
+/**
+ * How a batch of test cases was executed, used to tag metrics
+ */
+@Getter
+public enum ExecutionMode {
+    SEQUENTIAL("sequential"),
+    PARALLEL("parallel"),
+    STREAM("stream"),
+    JOB("job"),
+    REACTIVE("reactive"),
+    WIDE("wide"),
+    FILE("file"),
+    COALESCED("coalesced");
+
+    private final String tag;
+
+    ExecutionMode(String tag) {
+        this.tag = tag;
+    }
+}
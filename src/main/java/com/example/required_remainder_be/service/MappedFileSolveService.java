@@ -0,0 +1,183 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.BatchProperties;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Solves packed binary files through memory mappings, in the same format as the
+ * binary HTTP endpoint: little-endian int32 (x, y, n) triples in, little-endian int64
+ * results out, with a negative sentinel for failed cases.
+ * Workers claim chunks of the file, map the chunk's input and output regions and solve
+ * it in small slices, so the heap used does not depend on the size of the file.
+ */
+@Service
+@Slf4j
+public class MappedFileSolveService {
+
+    private static final int CASE_BYTES = 3 * Integer.BYTES;
+    private static final int RESULT_BYTES = Long.BYTES;
+    private static final int SLICE_CASES = 8192;
+    // a single mapping is limited to 2 GB
+    private static final int MAX_CHUNK_CASES = Integer.MAX_VALUE / CASE_BYTES;
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final SolveMetrics solveMetrics;
+    private final int chunkCases;
+    private final int parallelism;
+    private final boolean force;
+
+    public MappedFileSolveService(RequiredRemainderService requiredRemainderService, BatchProperties batchProperties,
+                                  SolveMetrics solveMetrics) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.solveMetrics = solveMetrics;
+        this.chunkCases = Math.min(Math.max(batchProperties.getChunkCases(), SLICE_CASES), MAX_CHUNK_CASES);
+        this.parallelism = batchProperties.getParallelism() > 0
+                ? batchProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.force = batchProperties.isForce();
+    }
+
+    /**
+     * Solves every case of the input file into the output file
+     *
+     * @param input  Packed test cases, 12 bytes per case
+     * @param output Results, 8 bytes per case; created or truncated
+     * @return Number of cases that could not be solved
+     * @throws ValidationException if the input length is not a whole number of cases
+     */
+    public long solve(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        long cases;
+        long failed;
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, READ, WRITE, TRUNCATE_EXISTING)) {
+            long inputBytes = in.size();
+            if (inputBytes % CASE_BYTES != 0) {
+                throw new ValidationException("Input file length must be a multiple of " + CASE_BYTES
+                        + " bytes, " + input + " has " + inputBytes);
+            }
+            cases = inputBytes / CASE_BYTES;
+            if (cases > 0) {
+                // size the output once, so concurrent mappings never have to extend the file
+                out.write(ByteBuffer.allocate(1), cases * RESULT_BYTES - 1);
+            }
+            failed = solveChunks(in, out, cases);
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        solveMetrics.recordBatch(ExecutionMode.FILE, cases, failed, durationNanos);
+        log.info("Solved {} test cases from {} into {} in {} ms ({} MB/s), {} failed",
+                cases, input, output, durationNanos / 1_000_000,
+                cases * (CASE_BYTES + RESULT_BYTES) * 1_000 / Math.max(durationNanos, 1), failed);
+        return failed;
+    }
+
+    private long solveChunks(FileChannel in, FileChannel out, long cases) throws IOException {
+        long chunks = Math.ceilDiv(cases, chunkCases);
+        int workers = (int) Math.min(parallelism, chunks);
+        if (workers <= 1) {
+            return solveClaimedChunks(in, out, cases, new AtomicLong());
+        }
+
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "batch-solve-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Long>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> solveClaimedChunks(in, out, cases, nextChunk)));
+            }
+            long failed = 0;
+            for (Future<Long> future : futures) {
+                failed += future.get();
+            }
+            return failed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while solving " + cases + " test cases", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Failed to solve " + cases + " test cases", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Claims and solves chunks until none are left
+     *
+     * @return Number of failed cases in the chunks this worker solved
+     */
+    private long solveClaimedChunks(FileChannel in, FileChannel out, long cases, AtomicLong nextChunk)
+            throws IOException {
+        int[] triples = new int[SLICE_CASES * 3];
+        long[] xs = new long[SLICE_CASES];
+        long[] ys = new long[SLICE_CASES];
+        long[] ns = new long[SLICE_CASES];
+        long[] results = new long[SLICE_CASES];
+        // the bitmap is never read here, failed cases are already marked by their sentinel
+        long[] failures = RequiredRemainderService.newFailureBitmap(SLICE_CASES);
+        long failed = 0;
+
+        long first;
+        while ((first = nextChunk.getAndIncrement() * chunkCases) < cases) {
+            int size = (int) Math.min(chunkCases, cases - first);
+            MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY,
+                    first * CASE_BYTES, (long) size * CASE_BYTES);
+            MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE,
+                    first * RESULT_BYTES, (long) size * RESULT_BYTES);
+            IntBuffer sourceInts = source.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            LongBuffer targetLongs = target.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+
+            for (int done = 0; done < size; done += SLICE_CASES) {
+                int slice = Math.min(SLICE_CASES, size - done);
+                sourceInts.get(triples, 0, slice * 3);
+                for (int i = 0, j = 0; i < slice; i++, j += 3) {
+                    xs[i] = triples[j];
+                    ys[i] = triples[j + 1];
+                    ns[i] = triples[j + 2];
+                }
+                failed += requiredRemainderService.solveInto(xs, ys, ns, 0, slice, results, failures);
+                targetLongs.put(results, 0, slice);
+            }
+            if (force) {
+                target.force();
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class ReactiveSolveService {
+
+    static final int CHUNK_SIZE = 1024;
+    static final Duration MAX_CHUNK_WAIT = Duration.ofMillis(10);
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final SolveMetrics solveMetrics;
+
+    public ReactiveSolveService(RequiredRemainderService requiredRemainderService, SolveMetrics solveMetrics) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.solveMetrics = solveMetrics;
+    }
+
+    /**
+     * Solves test cases as they arrive, in chunks of up to {@value #CHUNK_SIZE} cases.
+     * A chunk is closed early once no case has arrived for {@code MAX_CHUNK_WAIT}, so a
+     * trickling client still sees its results promptly. Only one chunk is requested from
+     * upstream at a time, so a slow consumer throttles decoding instead of letting cases
+     * pile up in memory. A case that is incomplete or fails validation produces an empty result.
+     *
+     * @param requests Test cases, decoded lazily from the request body
+     * @return One result per case, in input order
+     */
+    public Flux<Optional<Long>> solve(Flux<RequiredRemainderRequest> requests) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong count = new AtomicLong();
+            AtomicLong failed = new AtomicLong();
+            return requests
+                    .bufferTimeout(CHUNK_SIZE, MAX_CHUNK_WAIT, true)
+                    .concatMapIterable(chunk -> solveChunk(chunk, count, failed), 1)
+                    .doOnComplete(() -> {
+                        long durationNanos = System.nanoTime() - start;
+                        solveMetrics.recordBatch(ExecutionMode.REACTIVE, count.get(), failed.get(), durationNanos);
+                        log.info("Solved {} reactive test cases in {} us, {} failed",
+                                count.get(), durationNanos / 1_000, failed.get());
+                    });
+        });
+    }
+
+    private List<Optional<Long>> solveChunk(List<RequiredRemainderRequest> chunk, AtomicLong count,
+                                            AtomicLong failed) {
+        RequiredRemainderBatch batch = RequiredRemainderBatch.fromRequests(chunk);
+        int size = batch.getSize();
+        long[] results = new long[size];
+        long[] failures = RequiredRemainderService.newFailureBitmap(size);
+        int chunkFailed = requiredRemainderService.solveInto(batch.getXs(), batch.getYs(), batch.getNs(),
+                0, size, results, failures);
+        count.addAndGet(size);
+        failed.addAndGet(chunkFailed);
+
+        List<Optional<Long>> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(RequiredRemainderService.isFailed(failures, i) ? Optional.empty() : Optional.of(results[i]));
+        }
+        return values;
+    }
+}
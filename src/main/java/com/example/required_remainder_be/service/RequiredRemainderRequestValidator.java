@@ -0,0 +1,115 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.ErrorResponse;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderRequestList;
+import com.example.required_remainder_be.exception.RequestValidationException;
+import com.example.required_remainder_be.metrics.RequestValidationEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.N_CANNOT_BE_NULL;
+import static com.example.required_remainder_be.constants.GeneralConstants.TEST_CASE_CANNOT_BE_NULL;
+import static com.example.required_remainder_be.constants.GeneralConstants.X_CANNOT_BE_NULL;
+import static com.example.required_remainder_be.constants.GeneralConstants.Y_CANNOT_BE_NULL;
+
+/**
+ * Validates bound test cases in a single pass with plain comparisons, in place of
+ * reflective Bean Validation. Besides the per-field bounds it checks the cross-field
+ * rules y &lt; x and y &le; n, which field annotations cannot express.
+ */
+@Component
+public class RequiredRemainderRequestValidator {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final boolean rejectInvalidCases;
+
+    public RequiredRemainderRequestValidator(SolveProperties solveProperties) {
+        this.rejectInvalidCases = solveProperties.isRejectInvalidCases();
+    }
+
+    /**
+     * Checks every test case of a request body. A null entry is always rejected. Invalid or
+     * missing values are only rejected when {@code app.solve.reject-invalid-cases} is set;
+     * otherwise they are left to the solver, which answers such a case with null.
+     *
+     * @param requests Bound request body
+     * @throws RequestValidationException listing the first {@value #MAX_REPORTED_ERRORS} invalid cases
+     */
+    public void validate(List<RequiredRemainderRequest> requests) {
+        RequestValidationEvent event = new RequestValidationEvent();
+        event.begin();
+        List<ErrorResponse.ValidationError> errors = new ArrayList<>(0);
+        int invalidCases = 0;
+        if (!rejectInvalidCases && requests instanceof RequiredRemainderRequestList list) {
+            // only the irregular cases of a codec-read list can be null
+            for (Map.Entry<Integer, RequiredRemainderRequest> entry : list.getIrregularCases().entrySet()) {
+                invalidCases += collect(errors, check(entry.getKey(), entry.getValue()));
+            }
+        } else {
+            for (int i = 0, size = requests.size(); i < size; i++) {
+                invalidCases += collect(errors, check(i, requests.get(i)));
+            }
+        }
+        event.cases = requests.size();
+        event.invalidCases = invalidCases;
+        event.commit();
+        if (invalidCases > 0) {
+            throw new RequestValidationException(invalidCases, errors);
+        }
+    }
+
+    /**
+     * @return 1 if the case was invalid, after recording its error within the report limit
+     */
+    private static int collect(List<ErrorResponse.ValidationError> errors, ErrorResponse.ValidationError error) {
+        if (error == null) {
+            return 0;
+        }
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+        return 1;
+    }
+
+    /**
+     * @return The first violation of the case, or null if it is valid
+     */
+    private ErrorResponse.ValidationError check(int index, RequiredRemainderRequest request) {
+        if (request == null) {
+            return new ErrorResponse.ValidationError("[" + index + "]", TEST_CASE_CANNOT_BE_NULL, null);
+        }
+        if (!rejectInvalidCases) {
+            return null;
+        }
+        Long x = request.getX();
+        Long y = request.getY();
+        Long n = request.getN();
+        if (x == null) {
+            return error(index, "x", X_CANNOT_BE_NULL, null);
+        }
+        if (y == null) {
+            return error(index, "y", Y_CANNOT_BE_NULL, null);
+        }
+        if (n == null) {
+            return error(index, "n", N_CANNOT_BE_NULL, null);
+        }
+        CaseStatus status = RequiredRemainderService.validate(x, y, n);
+        return switch (status) {
+            case INVALID_X -> error(index, status.getField(), status.getMessage(), x);
+            case INVALID_Y -> error(index, status.getField(), status.getMessage(), y);
+            case INVALID_N -> error(index, status.getField(), status.getMessage(), n);
+            default -> null;
+        };
+    }
+
+    private static ErrorResponse.ValidationError error(int index, String field, String message, Long rejectedValue) {
+        return new ErrorResponse.ValidationError("[" + index + "]." + field, message,
+                rejectedValue != null ? rejectedValue.toString() : null);
+    }
+}
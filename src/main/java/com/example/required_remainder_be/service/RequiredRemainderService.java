@@ -1,17 +1,37 @@
 package com.example.required_remainder_be.service;
 
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderBatchResponse;
 import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderResultList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequestList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderResultList;
 import com.example.required_remainder_be.exception.RequiredRemainderException;
 import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
 
-import static com.example.required_remainder_be.constants.GeneralConstants.N_MUST_BE_BETWEEN_Y_AND_10_9;
+import static com.example.required_remainder_be.constants.GeneralConstants.HI_MUST_BE_AT_MOST_10_9;
+import static com.example.required_remainder_be.constants.GeneralConstants.LO_MUST_BE_BETWEEN_0_AND_HI;
+import static com.example.required_remainder_be.constants.GeneralConstants.NO_VALID_SOLUTION;
 import static com.example.required_remainder_be.constants.GeneralConstants.ONE_BILLION;
+import static com.example.required_remainder_be.constants.GeneralConstants.TARGET_MUST_BE_BETWEEN_0_AND_10_9;
 import static com.example.required_remainder_be.constants.GeneralConstants.TWO;
 import static com.example.required_remainder_be.constants.GeneralConstants.X_MUST_BE_BETWEEN_2_AND_10_9;
 import static com.example.required_remainder_be.constants.GeneralConstants.Y_MUST_BE_BETWEEN_0_AND_X_1;
@@ -21,36 +41,258 @@ import static com.example.required_remainder_be.constants.GeneralConstants.ZERO;
 @Slf4j
 public class RequiredRemainderService {
 
+    private static final int BITMAP_WORD_CASES = 64;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final BigInteger BIG_TWO = BigInteger.valueOf(TWO);
+
+    private final int parallelThreshold;
+    private final int chunkSize;
+    private final ForkJoinPool forkJoinPool;
+
+    private final SolveKernel kernel;
+
+    private final double traceSampleRate;
+    private final int traceMaxCases;
+    private final SolveMetrics solveMetrics;
+
+    public RequiredRemainderService(SolveProperties solveProperties, SolveMetrics solveMetrics) {
+        this.solveMetrics = solveMetrics;
+        this.traceSampleRate = solveProperties.getTraceSampleRate();
+        this.traceMaxCases = solveProperties.getTraceMaxCases();
+        int parallelism = solveProperties.getParallelism() > 0
+                ? solveProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        // chunks must cover whole bitmap words so that no two tasks write the same word
+        this.chunkSize = alignToBitmapWord(Math.max(solveProperties.getChunkSize(), BITMAP_WORD_CASES));
+        this.parallelThreshold = Math.max(solveProperties.getParallelThreshold(), chunkSize);
+        this.forkJoinPool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        this.kernel = createKernel(solveProperties.isVectorKernel());
+    }
+
+    private static SolveKernel createKernel(boolean vectorKernel) {
+        if (!vectorKernel) {
+            return new ScalarSolveKernel();
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.warn("app.solve.vector-kernel is set but {} is not available, using the scalar kernel; "
+                    + "start the JVM with --add-modules {}", VECTOR_MODULE, VECTOR_MODULE);
+            return new ScalarSolveKernel();
+        }
+        log.info("Using the vector solve kernel");
+        return new VectorSolveKernel();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+        }
+    }
+
     /**
      * Solves test cases and returns List<Long> with results
      * 
      * @param requests List of test cases
-     * @return List of results as Long values
+     * @return List of results as Long values, null for cases that could not be solved
      */
     public List<Long> solveCases(List<RequiredRemainderRequest> requests) {
-        log.info("Solving {} test cases (List<Long> method)", requests.size());
-        
-        List<Long> results = new ArrayList<>();
-        
-        for (int i = 0; i < requests.size(); i++) {
-            RequiredRemainderRequest request = requests.get(i);
-            try {
-                long result = findMaxK(request.getX(), request.getY(), request.getN());
-                results.add(result);
-                log.debug("Test case {}: success", i + 1);
-            } catch (ValidationException e) {
-                log.warn("Test case {}: validation error - {}", i + 1, e.getMessage());
-                results.add(null);
-            } catch (RequiredRemainderException e) {
-                log.warn("Test case {}: calculation error - {}", i + 1, e.getMessage());
-                results.add(null);
+        int size = requests.size();
+        long[] values = new long[size];
+        long[] failures = newFailureBitmap(size);
+        solveInto(RequiredRemainderBatch.fromRequests(requests), values, failures);
+        return toResultList(values, failures);
+    }
+
+    /**
+     * Solves test cases and reports every failed case with its index and error code
+     *
+     * @param requests List of test cases
+     * @return Results, null for failed cases, together with one error entry per failed case
+     */
+    public RequiredRemainderBatchResponse solveCasesDetailed(List<RequiredRemainderRequest> requests) {
+        int size = requests.size();
+        long[] values = new long[size];
+        long[] failures = newFailureBitmap(size);
+        int failed = solveInto(RequiredRemainderBatch.fromRequests(requests), values, failures);
+
+        List<RequiredRemainderBatchResponse.CaseError> errors = new ArrayList<>(failed);
+        for (int word = 0; word < failures.length; word++) {
+            long bits = failures[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                CaseStatus status = CaseStatus.fromResult(values[index]);
+                errors.add(new RequiredRemainderBatchResponse.CaseError(
+                        index, status.name(), status.getField(), status.getMessage()));
+                bits &= bits - 1;
             }
         }
-        
-        log.info("Completed solving {} test cases (List<Long> method)", requests.size());
+        return new RequiredRemainderBatchResponse(toResultList(values, failures), failed, errors);
+    }
+
+    /**
+     * Solves a batch of test cases held in primitive arrays
+     *
+     * @param batch Test cases
+     * @return One result per case, a negative CaseStatus sentinel for cases that could not be solved
+     */
+    public long[] solveBatch(RequiredRemainderBatch batch) {
+        int size = batch.getSize();
+        long[] results = new long[size];
+        solveInto(batch, results, newFailureBitmap(size));
         return results;
     }
 
+    /**
+     * Solves test cases whose values may exceed 10^9, under the relaxed constraints
+     * 2 ≤ x, 0 ≤ y < x and y ≤ n. Each case takes the cheapest correct path: cases held in
+     * the batch are solved with long arithmetic straight from its arrays, and only cases with
+     * a value beyond the long range go through BigInteger, so a batch can mix magnitudes freely.
+     *
+     * @param requests Test cases
+     * @return One result per case, null for cases that are missing a value or break the constraints
+     */
+    public List<BigInteger> solveCasesWide(List<WideRequiredRemainderRequest> requests) {
+        long start = System.nanoTime();
+        WideRequiredRemainderRequestList cases = WideRequiredRemainderRequestList.fromRequests(requests);
+        RequiredRemainderBatch batch = cases.getBatch();
+        int size = batch.getSize();
+        long[] xs = batch.getXs();
+        long[] ys = batch.getYs();
+        long[] ns = batch.getNs();
+        long[] values = new long[size];
+        long[] failures = newFailureBitmap(size);
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            long value = solveCaseWide(xs[i], ys[i], ns[i]);
+            if (value >= ZERO) {
+                values[i] = value;
+            } else {
+                failures[i >>> 6] |= 1L << i;
+                failed++;
+            }
+        }
+
+        // every irregular case failed above, as its missing or oversized values are negative in the batch
+        NavigableMap<Integer, BigInteger> bigValues = new TreeMap<>();
+        int bigCases = 0;
+        for (Map.Entry<Integer, WideRequiredRemainderRequest> entry : cases.getIrregularCases().entrySet()) {
+            WideRequiredRemainderRequest request = entry.getValue();
+            if (request == null || request.getX() == null || request.getY() == null || request.getN() == null) {
+                continue;
+            }
+            bigCases++;
+            BigInteger result = solveCaseWide(request.getX(), request.getY(), request.getN());
+            if (result != null) {
+                int index = entry.getKey();
+                bigValues.put(index, result);
+                failures[index >>> 6] &= ~(1L << index);
+                failed--;
+            }
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        solveMetrics.recordBatch(ExecutionMode.WIDE, size, failed, durationNanos);
+        log.info("Solved {} wide test cases in {} us, {} failed, {} with BigInteger",
+                size, durationNanos / 1_000, failed, bigCases);
+        return new WideRequiredRemainderResultList(values, failures, bigValues);
+    }
+
+    /**
+     * Solves cases [from, to) of the input arrays into the caller-supplied results array.
+     * Nothing is allocated and nothing is thrown per case: a case that cannot be solved gets
+     * the sentinel of its {@link CaseStatus} and its bit set in the failure bitmap (bit i lives
+     * in word i / 64), which the caller must have sized with {@link #newFailureBitmap(int)}.
+     *
+     * @param xs       Divisors
+     * @param ys       Remainders
+     * @param ns       Upper bounds
+     * @param from     First case to solve, inclusive
+     * @param to       Last case to solve, exclusive
+     * @param results  Receives one result per solved case
+     * @param failures Failure bitmap, bits are only ever set
+     * @return Number of cases in the range that could not be solved
+     */
+    public int solveInto(long[] xs, long[] ys, long[] ns, int from, int to, long[] results, long[] failures) {
+        return kernel.solveInto(xs, ys, ns, from, to, results, failures);
+    }
+
+    /**
+     * Solves a single test case without throwing
+     *
+     * @return The maximum k, or the negative sentinel of the CaseStatus explaining the failure
+     */
+    public long solveCase(long x, long y, long n) {
+        CaseStatus status = validate(x, y, n);
+        return status == CaseStatus.OK ? (n - y) / x * x + y : status.getSentinel();
+    }
+
+    /**
+     * Checks the input constraints and reports the first one violated
+     *
+     * @param x The divisor
+     * @param y The remainder
+     * @param n The upper bound
+     * @return OK if the case can be solved, otherwise the status of the failed constraint
+     */
+    public static CaseStatus validate(long x, long y, long n) {
+        if (x < TWO || x > ONE_BILLION) {
+            return CaseStatus.INVALID_X;
+        }
+        if (y < ZERO || y >= x) {
+            return CaseStatus.INVALID_Y;
+        }
+        if (n < y || n > ONE_BILLION) {
+            return CaseStatus.INVALID_N;
+        }
+        return CaseStatus.OK;
+    }
+
+    /**
+     * Solves a single test case over the full long range without throwing, under the relaxed
+     * constraints 2 ≤ x, 0 ≤ y < x and y ≤ n. Once those hold, n - y is non-negative and the
+     * result lies in [y, n], so no step can overflow for any long inputs.
+     *
+     * @return The maximum k, or the negative sentinel of the CaseStatus explaining the failure
+     */
+    public static long solveCaseWide(long x, long y, long n) {
+        if (x < TWO) {
+            return CaseStatus.INVALID_X.getSentinel();
+        }
+        if (y < ZERO || y >= x) {
+            return CaseStatus.INVALID_Y.getSentinel();
+        }
+        if (n < y) {
+            return CaseStatus.INVALID_N.getSentinel();
+        }
+        return (n - y) / x * x + y;
+    }
+
+    /**
+     * Arbitrary-precision counterpart of {@link #solveCaseWide(long, long, long)}
+     *
+     * @return The maximum k, or null if the constraints are not met
+     */
+    public static BigInteger solveCaseWide(BigInteger x, BigInteger y, BigInteger n) {
+        if (x.compareTo(BIG_TWO) < 0 || y.signum() < 0 || y.compareTo(x) >= 0 || n.compareTo(y) < 0) {
+            return null;
+        }
+        return n.subtract(n.subtract(y).mod(x));
+    }
+
+    /**
+     * Allocates a zeroed failure bitmap able to hold the given number of cases
+     */
+    public static long[] newFailureBitmap(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Tells whether a case was marked as failed in a failure bitmap
+     */
+    public static boolean isFailed(long[] failures, int index) {
+        return (failures[index >>> 6] & (1L << index)) != 0;
+    }
+
     /**
      * Finds the maximum integer k such that 0 ≤ k ≤ n and k mod x = y.
      * I decided to use long instead of big integer because big integer is slow in comparison
@@ -62,8 +304,6 @@ public class RequiredRemainderService {
      * @throws ValidationException if the constraints are not met
      */
     public long findMaxK(long x, long y, long n) {
-        log.debug("Finding max k for x={}, y={}, n={}", x, y, n);
-        
         // Validate constraints
         validateConstraints(x, y, n);
         
@@ -76,16 +316,233 @@ public class RequiredRemainderService {
         long result = maxQuotient * x + y;
 
         if (result > n || result < ZERO) {
-            throw new RequiredRemainderException(
-                "No valid solution found for the given constraints",
-                HttpStatus.UNPROCESSABLE_ENTITY,
-                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase()
-            );
+            solveMetrics.recordCalculationFailure();
+            throw noSolution();
         }
-        log.debug("Found result: k={} for x={}, y={}, n={}", result, x, y, n);
+        solveMetrics.recordSuccess();
         return result;
     }
 
+    /**
+     * Counts the integers k with lo ≤ k ≤ hi and k mod x = y, in constant time
+     *
+     * @param x  The divisor (2 ≤ x ≤ 10^9)
+     * @param y  The remainder (0 ≤ y < x)
+     * @param lo Lower end of the range (0 ≤ lo ≤ hi)
+     * @param hi Upper end of the range (lo ≤ hi ≤ 10^9)
+     * @return The number of such k, possibly 0
+     * @throws ValidationException if the constraints are not met
+     */
+    public long countK(long x, long y, long lo, long hi) {
+        validateQuery(x, y, lo, hi);
+        return Math.max(ZERO, lastQuotient(x, y, hi) - firstQuotient(x, y, lo) + 1);
+    }
+
+    /**
+     * Finds the minimum integer k such that lo ≤ k ≤ hi and k mod x = y
+     *
+     * @param x  The divisor (2 ≤ x ≤ 10^9)
+     * @param y  The remainder (0 ≤ y < x)
+     * @param lo Lower end of the range (0 ≤ lo ≤ hi)
+     * @param hi Upper end of the range (lo ≤ hi ≤ 10^9)
+     * @return The minimum k that satisfies the conditions
+     * @throws ValidationException if the constraints are not met
+     * @throws RequiredRemainderException if no such k lies in the range
+     */
+    public long minK(long x, long y, long lo, long hi) {
+        validateQuery(x, y, lo, hi);
+        long result = firstQuotient(x, y, lo) * x + y;
+        if (result > hi) {
+            throw noSolution();
+        }
+        return result;
+    }
+
+    /**
+     * Finds the integer k in [0, 10^9] with k mod x = y closest to a target,
+     * the smaller one when two are equally close
+     *
+     * @param x      The divisor (2 ≤ x ≤ 10^9)
+     * @param y      The remainder (0 ≤ y < x)
+     * @param target The value to approach (0 ≤ target ≤ 10^9)
+     * @return The nearest k that satisfies the conditions
+     * @throws ValidationException if the constraints are not met
+     */
+    public long nearestK(long x, long y, long target) {
+        if (target < ZERO || target > ONE_BILLION) {
+            throw new ValidationException(TARGET_MUST_BE_BETWEEN_0_AND_10_9, "target");
+        }
+        validateQuery(x, y, target, target);
+        // y < x ≤ 10^9, so k = y always exists and covers any target below it
+        long below = lastQuotient(x, y, target) * x + y;
+        long above = firstQuotient(x, y, target) * x + y;
+        if (below < ZERO) {
+            return above;
+        }
+        if (above > ONE_BILLION || target - below <= above - target) {
+            return below;
+        }
+        return above;
+    }
+
+    /**
+     * Lists the integers k with lo ≤ k ≤ hi and k mod x = y as a lazy arithmetic progression.
+     * Any page is located in constant time and values are computed only as they are consumed.
+     *
+     * @param x          The divisor (2 ≤ x ≤ 10^9)
+     * @param y          The remainder (0 ≤ y < x)
+     * @param lo         Lower end of the range (0 ≤ lo ≤ hi)
+     * @param hi         Upper end of the range (lo ≤ hi ≤ 10^9)
+     * @param offset     Values to skip from the start of the listing
+     * @param limit      Maximum number of values to return, at least 1
+     * @param descending Whether to list from hi downwards instead of from lo upwards
+     * @return At most limit values of k, in the requested order
+     * @throws ValidationException if the constraints are not met
+     */
+    public LongStream enumerateK(long x, long y, long lo, long hi, long offset, long limit, boolean descending) {
+        if (offset < ZERO) {
+            throw new ValidationException("offset must not be negative", "offset");
+        }
+        // a page of zero would hand out its own offset as the next one
+        if (limit < 1) {
+            throw new ValidationException("limit must be positive", "limit");
+        }
+        long count = countK(x, y, lo, hi);
+        long size = Math.min(limit, Math.max(ZERO, count - offset));
+        if (descending) {
+            long last = lastQuotient(x, y, hi) * x + y;
+            return LongStream.range(offset, offset + size).map(i -> last - i * x);
+        }
+        long first = firstQuotient(x, y, lo) * x + y;
+        return LongStream.range(offset, offset + size).map(i -> first + i * x);
+    }
+
+    private int solveInto(RequiredRemainderBatch batch, long[] results, long[] failures) {
+        int size = batch.getSize();
+        long start = System.nanoTime();
+        int failed;
+        ExecutionMode mode;
+        if (forkJoinPool == null || size < parallelThreshold) {
+            mode = ExecutionMode.SEQUENTIAL;
+            failed = solveInto(batch.getXs(), batch.getYs(), batch.getNs(), 0, size, results, failures);
+        } else {
+            mode = ExecutionMode.PARALLEL;
+            failed = forkJoinPool.invoke(new SolveTask(batch, 0, size, results, failures));
+        }
+        long durationNanos = System.nanoTime() - start;
+        solveMetrics.recordBatch(mode, size, failed, durationNanos);
+        log.info("Solved {} test cases ({}) in {} us, {} failed",
+                size, mode.getTag(), durationNanos / 1_000, failed);
+        if (isTraced()) {
+            traceCases(batch, results);
+        }
+        return failed;
+    }
+
+    private boolean isTraced() {
+        return SolveDiagnostics.isEnabled()
+                || (traceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < traceSampleRate);
+    }
+
+    private void traceCases(RequiredRemainderBatch batch, long[] results) {
+        int traced = Math.min(batch.getSize(), traceMaxCases);
+        for (int i = 0; i < traced; i++) {
+            log.info("Test case {}: x={}, y={}, n={} -> {}", i + 1,
+                    batch.getXs()[i], batch.getYs()[i], batch.getNs()[i], describe(results[i]));
+        }
+        if (traced < batch.getSize()) {
+            log.info("Trace limited to the first {} of {} test cases", traced, batch.getSize());
+        }
+    }
+
+    private static String describe(long result) {
+        CaseStatus status = CaseStatus.fromResult(result);
+        return status == CaseStatus.OK ? Long.toString(result) : status.name() + " - " + status.getMessage();
+    }
+
+    private static int alignToBitmapWord(int cases) {
+        return (cases + BITMAP_WORD_CASES - 1) & -BITMAP_WORD_CASES;
+    }
+
+    /**
+     * Splits a batch in halves on bitmap word boundaries until a chunk is small enough
+     * to be solved sequentially; every chunk writes into its own slice of the results
+     */
+    private final class SolveTask extends RecursiveTask<Integer> {
+
+        private final RequiredRemainderBatch batch;
+        private final int from;
+        private final int to;
+        private final long[] results;
+        private final long[] failures;
+
+        private SolveTask(RequiredRemainderBatch batch, int from, int to, long[] results, long[] failures) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+            this.failures = failures;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= chunkSize) {
+                return solveInto(batch.getXs(), batch.getYs(), batch.getNs(), from, to, results, failures);
+            }
+            int mid = from + alignToBitmapWord((to - from) >>> 1);
+            SolveTask left = new SolveTask(batch, from, mid, results, failures);
+            left.fork();
+            int rightFailed = new SolveTask(batch, mid, to, results, failures).compute();
+            return left.join() + rightFailed;
+        }
+    }
+
+    private static List<Long> toResultList(long[] values, long[] failures) {
+        return new RequiredRemainderResultList(values, failures);
+    }
+
+    /**
+     * Smallest q with q * x + y ≥ lo
+     */
+    private static long firstQuotient(long x, long y, long lo) {
+        return Math.ceilDiv(lo - y, x);
+    }
+
+    /**
+     * Largest q with q * x + y ≤ hi
+     */
+    private static long lastQuotient(long x, long y, long hi) {
+        return Math.floorDiv(hi - y, x);
+    }
+
+    private static RequiredRemainderException noSolution() {
+        return new RequiredRemainderException(
+            NO_VALID_SOLUTION,
+            HttpStatus.UNPROCESSABLE_ENTITY,
+            HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase()
+        );
+    }
+
+    /**
+     * Validates the constraints of a range query
+     *
+     * @throws ValidationException if constraints are not met
+     */
+    private static void validateQuery(long x, long y, long lo, long hi) {
+        if (x < TWO || x > ONE_BILLION) {
+            throw new ValidationException(X_MUST_BE_BETWEEN_2_AND_10_9, "x");
+        }
+        if (y < ZERO || y >= x) {
+            throw new ValidationException(Y_MUST_BE_BETWEEN_0_AND_X_1, "y");
+        }
+        if (lo < ZERO || lo > hi) {
+            throw new ValidationException(LO_MUST_BE_BETWEEN_0_AND_HI, "lo");
+        }
+        if (hi > ONE_BILLION) {
+            throw new ValidationException(HI_MUST_BE_AT_MOST_10_9, "hi");
+        }
+    }
+
     /**
      * Validates the input constraints
      *
@@ -95,23 +552,13 @@ public class RequiredRemainderService {
      * @throws ValidationException if constraints are not met
      */
     private void validateConstraints(long x, long y, long n) {
-        if (x < TWO || x > ONE_BILLION) {
-            throw new ValidationException(
-                X_MUST_BE_BETWEEN_2_AND_10_9,
-                "x"
-            );
-        }
-        if (y < ZERO || y >= x) {
-            throw new ValidationException(
-                Y_MUST_BE_BETWEEN_0_AND_X_1,
-                "y"
-            );
-        }
-        if (n < y || n > ONE_BILLION) {
+        CaseStatus status = validate(x, y, n);
+        if (status != CaseStatus.OK) {
+            solveMetrics.recordValidationFailure();
             throw new ValidationException(
-                N_MUST_BE_BETWEEN_Y_AND_10_9,
-                "n"
+                status.getMessage(),
+                status.getField()
             );
         }
     }
-}
\ No newline at end of file
+}
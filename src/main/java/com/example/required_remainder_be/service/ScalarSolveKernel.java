@@ -0,0 +1,43 @@
+package com.example.required_remainder_be.service;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.ONE_BILLION;
+import static com.example.required_remainder_be.constants.GeneralConstants.TWO;
+import static com.example.required_remainder_be.constants.GeneralConstants.ZERO;
+
+/**
+ * One case per iteration; the default kernel
+ */
+final class ScalarSolveKernel implements SolveKernel {
+
+    @Override
+    public int solveInto(long[] xs, long[] ys, long[] ns, int from, int to, long[] results, long[] failures) {
+        int failed = 0;
+        for (int i = from; i < to; i++) {
+            long x = xs[i];
+            long y = ys[i];
+            long n = ns[i];
+            if (isValid(x, y, n)) {
+                // y <= n keeps the result within [y, n], so no further check is needed here
+                results[i] = (n - y) / x * x + y;
+            } else {
+                markFailed(xs, ys, ns, i, results, failures);
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Stores the sentinel of an invalid case and sets its failure bit
+     */
+    static void markFailed(long[] xs, long[] ys, long[] ns, int i, long[] results, long[] failures) {
+        results[i] = RequiredRemainderService.validate(xs[i], ys[i], ns[i]).getSentinel();
+        failures[i >>> 6] |= 1L << i;
+    }
+
+    private static boolean isValid(long x, long y, long n) {
+        return x >= TWO && x <= ONE_BILLION
+                && y >= ZERO && y < x
+                && n >= y && n <= ONE_BILLION;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.CoalescerProperties;
+import com.example.required_remainder_be.exception.RequiredRemainderException;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.NO_VALID_SOLUTION;
+
+/**
+ * Solves concurrent single-case requests in micro-batches on the batch kernel. There is no
+ * dispatcher thread: a caller queues its case and, if no batch is being solved, becomes the
+ * leader and solves everything queued, its own case included, as one batch; the others park
+ * until the leader hands them their result. With a single caller the case is solved on its
+ * own thread with no hand-off, and under load a batch forms from the cases that arrived while
+ * the previous one was being solved, so the per-request cost is shared without adding a wait.
+ * A positive max wait lets the leader hold a batch that is not full for more cases.
+ * When the triple cache is enabled, a cached case is answered before it is queued.
+ */
+@Component
+public class SingleCaseCoalescer {
+
+    public static final String LATENCY = "required_remainder.coalescer.latency";
+    public static final String BATCH_SIZE = "required_remainder.coalescer.batch.size";
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final SolveMetrics solveMetrics;
+    private final TripleResultCache resultCache;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final Timer latency;
+    private final DistributionSummary batchSize;
+
+    private final Queue<PendingCase> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean leading = new AtomicBoolean();
+    private volatile Thread collectingLeader;
+
+    // only touched by the current leader
+    private final PendingCase[] batch;
+    private final long[] xs;
+    private final long[] ys;
+    private final long[] ns;
+    private final long[] results;
+    private final long[] failures;
+
+    public SingleCaseCoalescer(RequiredRemainderService requiredRemainderService, SolveMetrics solveMetrics,
+                               TripleResultCache resultCache, CoalescerProperties coalescerProperties,
+                               MeterRegistry meterRegistry) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.solveMetrics = solveMetrics;
+        this.resultCache = resultCache;
+        this.enabled = coalescerProperties.isEnabled();
+        this.maxBatch = Math.max(coalescerProperties.getMaxBatch(), 1);
+        this.maxWaitNanos = coalescerProperties.getMaxWait().toNanos();
+        this.latency = Timer.builder(LATENCY)
+                .description("Time from queueing a single case to its result")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+                .description("Single cases solved per micro-batch")
+                .baseUnit("cases")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batch = new PendingCase[maxBatch];
+        this.xs = new long[maxBatch];
+        this.ys = new long[maxBatch];
+        this.ns = new long[maxBatch];
+        this.results = new long[maxBatch];
+        this.failures = RequiredRemainderService.newFailureBitmap(maxBatch);
+    }
+
+    /**
+     * Same contract as {@link RequiredRemainderService#findMaxK}, solved as part of a micro-batch
+     *
+     * @throws ValidationException if the constraints are not met
+     * @throws RequiredRemainderException if there is no solution
+     */
+    public long findMaxK(long x, long y, long n) {
+        long result = solve(x, y, n);
+        CaseStatus status = CaseStatus.fromResult(result);
+        if (status == CaseStatus.OK) {
+            return result;
+        }
+        if (status.isValidationFailure()) {
+            throw new ValidationException(status.getMessage(), status.getField());
+        }
+        throw new RequiredRemainderException(NO_VALID_SOLUTION, HttpStatus.UNPROCESSABLE_ENTITY,
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase());
+    }
+
+    /**
+     * Solves one case without throwing, blocking until its micro-batch is solved
+     *
+     * @return The maximum k, or the negative sentinel of the CaseStatus explaining the failure
+     */
+    public long solve(long x, long y, long n) {
+        Long cached = resultCache.getIfPresent(x, y, n);
+        if (cached != null) {
+            return cached;
+        }
+        long result = enabled ? solveInBatch(x, y, n) : requiredRemainderService.solveCase(x, y, n);
+        resultCache.put(x, y, n, result);
+        return result;
+    }
+
+    private long solveInBatch(long x, long y, long n) {
+        PendingCase pending = new PendingCase(x, y, n, Thread.currentThread(), System.nanoTime());
+        queue.add(pending);
+        queued.incrementAndGet();
+        Thread leader = collectingLeader;
+        if (leader != null) {
+            LockSupport.unpark(leader);
+        }
+
+        boolean interrupted = false;
+        while (!pending.done) {
+            if (leading.compareAndSet(false, true)) {
+                lead(pending);
+            } else {
+                LockSupport.park(this);
+                // the result is always delivered, so an interrupt is only passed on
+                interrupted |= Thread.interrupted();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return pending.result;
+    }
+
+    /**
+     * Solves batches until the leader's own case is done, then hands leadership to the
+     * oldest queued caller, if any, so that no case is left waiting without a leader
+     */
+    private void lead(PendingCase own) {
+        try {
+            while (!own.done) {
+                int size = collect();
+                if (size > 0) {
+                    solveBatch(size);
+                }
+            }
+        } finally {
+            leading.set(false);
+            PendingCase next = queue.peek();
+            if (next != null) {
+                LockSupport.unpark(next.waiter);
+            }
+        }
+    }
+
+    private int collect() {
+        int size = drain(0);
+        if (size < maxBatch && maxWaitNanos > 0) {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            collectingLeader = Thread.currentThread();
+            try {
+                long remaining;
+                while (size < maxBatch && (remaining = deadline - System.nanoTime()) > 0) {
+                    if (queued.get() <= 0) {
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                    size = drain(size);
+                }
+            } finally {
+                collectingLeader = null;
+            }
+        }
+        return size;
+    }
+
+    private int drain(int size) {
+        PendingCase pending;
+        while (size < maxBatch && (pending = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch[size] = pending;
+            xs[size] = pending.x;
+            ys[size] = pending.y;
+            ns[size] = pending.n;
+            size++;
+        }
+        return size;
+    }
+
+    private void solveBatch(int size) {
+        long start = System.nanoTime();
+        int failed = requiredRemainderService.solveInto(xs, ys, ns, 0, size, results, failures);
+        long end = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            PendingCase pending = batch[i];
+            batch[i] = null;
+            pending.result = results[i];
+            latency.record(end - pending.queuedAt, TimeUnit.NANOSECONDS);
+            pending.done = true;
+            LockSupport.unpark(pending.waiter);
+        }
+        // the kernel only ever sets failure bits
+        Arrays.fill(failures, 0, (size + 63) >>> 6, 0L);
+        solveMetrics.recordBatch(ExecutionMode.COALESCED, size, failed, end - start);
+        batchSize.record(size);
+    }
+
+    private static final class PendingCase {
+
+        private final long x;
+        private final long y;
+        private final long n;
+        private final Thread waiter;
+        private final long queuedAt;
+        private long result;
+        // written after result, so a caller that sees done also sees the result
+        private volatile boolean done;
+
+        private PendingCase(long x, long y, long n, Thread waiter, long queuedAt) {
+            this.x = x;
+            this.y = y;
+            this.n = n;
+            this.waiter = waiter;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.required_remainder_be.service;
+
+/**
+ * Per-request switch for case-level diagnostic logging.
+ * Set for the duration of a request by {@code SolveDiagnosticsFilter} when the client sends
+ * {@value #HEADER}: true; checking it costs a thread-local read and allocates nothing.
+ */
+public final class SolveDiagnostics {
+
+    public static final String HEADER = "X-Solve-Diagnostics";
+
+    private static final ThreadLocal<Boolean> ENABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private SolveDiagnostics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED.get();
+    }
+
+    public static void enable() {
+        ENABLED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        ENABLED.remove();
+    }
+}
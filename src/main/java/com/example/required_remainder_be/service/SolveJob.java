@@ -0,0 +1,70 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A batch being solved in the background. Results are filled in chunk by chunk;
+ * everything below {@link #getProcessed()} is final and may be read while the job runs.
+ */
+@Getter
+public class SolveJob {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final int total;
+    private final Instant submittedAt;
+    private final long[] results;
+    private final long[] failures;
+
+    @Getter(AccessLevel.PACKAGE)
+    private RequiredRemainderBatch batch;
+    // returns the job's cases to the admission budget once the job is dropped
+    @Getter(AccessLevel.NONE)
+    private final Runnable release;
+    private volatile State state = State.QUEUED;
+    private volatile int processed;
+    private volatile int failed;
+    private volatile Instant completedAt;
+
+    SolveJob(String id, RequiredRemainderBatch batch, Instant submittedAt, Runnable release) {
+        this.id = id;
+        this.batch = batch;
+        this.release = release;
+        this.total = batch.getSize();
+        this.submittedAt = submittedAt;
+        this.results = new long[total];
+        this.failures = RequiredRemainderService.newFailureBitmap(total);
+    }
+
+    void release() {
+        release.run();
+    }
+
+    void start() {
+        state = State.RUNNING;
+    }
+
+    void progress(int processed, int failed) {
+        // failed first: readers observe processed, and everything before it must be visible
+        this.failed = failed;
+        this.processed = processed;
+    }
+
+    void finish(State state, Instant completedAt) {
+        // the input is no longer needed once solving stops
+        this.batch = null;
+        this.completedAt = completedAt;
+        this.state = state;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
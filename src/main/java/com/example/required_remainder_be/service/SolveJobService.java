@@ -0,0 +1,201 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.JobProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.SolveJobResultsPage;
+import com.example.required_remainder_be.exception.RequiredRemainderException;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+public class SolveJobService {
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final JobProperties jobProperties;
+    private final SolveMetrics solveMetrics;
+    private final Clock clock;
+    private final Map<String, SolveJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public SolveJobService(RequiredRemainderService requiredRemainderService, JobProperties jobProperties,
+                           SolveMetrics solveMetrics) {
+        this(requiredRemainderService, jobProperties, solveMetrics, Clock.systemUTC());
+    }
+
+    SolveJobService(RequiredRemainderService requiredRemainderService, JobProperties jobProperties,
+                    SolveMetrics solveMetrics, Clock clock) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.jobProperties = jobProperties;
+        this.solveMetrics = solveMetrics;
+        this.clock = clock;
+        AtomicInteger workerCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                jobProperties.getWorkerThreads(), jobProperties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jobProperties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "solve-job-" + workerCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues a batch that holds nothing to release once the job is dropped
+     *
+     * @see #submit(RequiredRemainderBatch, Runnable)
+     */
+    public SolveJob submit(RequiredRemainderBatch batch) {
+        return submit(batch, () -> {
+        });
+    }
+
+    /**
+     * Queues a batch for background solving and returns immediately
+     *
+     * @param batch   Test cases
+     * @param release Run once the job is evicted or turned away, e.g. to return its admission reservation
+     * @return The queued job
+     * @throws RequiredRemainderException if the job queue is full
+     */
+    public SolveJob submit(RequiredRemainderBatch batch, Runnable release) {
+        SolveJob job = new SolveJob(UUID.randomUUID().toString(), batch, clock.instant(), release);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            job.release();
+            throw new RequiredRemainderException(
+                    "Too many solve jobs in progress, retry later",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        }
+        log.info("Queued solve job {} with {} test cases", job.getId(), job.getTotal());
+        return job;
+    }
+
+    /**
+     * @throws RequiredRemainderException if no job with this id exists or it has expired
+     */
+    public SolveJob getJob(String jobId) {
+        SolveJob job = jobs.get(jobId);
+        if (job == null || isExpired(job, clock.instant())) {
+            throw new RequiredRemainderException(
+                    "Solve job " + jobId + " not found",
+                    HttpStatus.NOT_FOUND,
+                    HttpStatus.NOT_FOUND.getReasonPhrase());
+        }
+        return job;
+    }
+
+    /**
+     * Returns a page of results; only results that are already solved are included,
+     * so a page may be shorter than requested while the job is running. nextOffset is
+     * null after the last page, which for a failed job is the last solved result
+     *
+     * @param jobId  Job id
+     * @param offset Index of the first result
+     * @param limit  Maximum results in the page, capped by app.jobs.max-page-size
+     */
+    public SolveJobResultsPage getResults(String jobId, int offset, int limit) {
+        if (offset < 0) {
+            throw new ValidationException("offset must not be negative", "offset");
+        }
+        if (limit < 1) {
+            throw new ValidationException("limit must be positive", "limit");
+        }
+        SolveJob job = getJob(jobId);
+        // state before processed: once a job is finished, processed is final
+        SolveJob.State state = job.getState();
+        int processed = job.getProcessed();
+        int from = Math.min(offset, processed);
+        int to = (int) Math.min((long) from + Math.min(limit, jobProperties.getMaxPageSize()), processed);
+
+        long[] values = job.getResults();
+        long[] failures = job.getFailures();
+        List<Long> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            results.add(RequiredRemainderService.isFailed(failures, i) ? null : values[i]);
+        }
+        // a failed job stops short of total, so its results end at processed
+        int end = state == SolveJob.State.FAILED ? processed : job.getTotal();
+        Integer nextOffset = to < end ? to : null;
+        return new SolveJobResultsPage(job.getId(), state, from, job.getTotal(), results, nextOffset);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.eviction-interval:60000}")
+    public void evictExpiredJobs() {
+        Instant now = clock.instant();
+        int before = jobs.size();
+        jobs.values().removeIf(job -> {
+            if (!isExpired(job, now)) {
+                return false;
+            }
+            job.release();
+            return true;
+        });
+        int evicted = before - jobs.size();
+        if (evicted > 0) {
+            log.info("Evicted {} expired solve jobs", evicted);
+        }
+    }
+
+    private boolean isExpired(SolveJob job, Instant now) {
+        Instant completedAt = job.getCompletedAt();
+        return completedAt != null && completedAt.plus(jobProperties.getTtl()).isBefore(now);
+    }
+
+    private void run(SolveJob job) {
+        job.start();
+        RequiredRemainderBatch batch = job.getBatch();
+        int total = job.getTotal();
+        int chunkSize = Math.max(64, jobProperties.getChunkSize() & -64);
+        int failed = 0;
+        long start = System.nanoTime();
+        try {
+            for (int from = 0; from < total; from += chunkSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                int to = Math.min(total, from + chunkSize);
+                failed += requiredRemainderService.solveInto(batch.getXs(), batch.getYs(), batch.getNs(),
+                        from, to, job.getResults(), job.getFailures());
+                job.progress(to, failed);
+            }
+            job.finish(SolveJob.State.COMPLETED, clock.instant());
+            solveMetrics.recordBatch(ExecutionMode.JOB, total, failed, System.nanoTime() - start);
+            log.info("Completed solve job {}: {} test cases, {} failed", job.getId(), total, failed);
+        } catch (InterruptedException e) {
+            job.finish(SolveJob.State.FAILED, clock.instant());
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            job.finish(SolveJob.State.FAILED, clock.instant());
+            log.error("Solve job {} failed", job.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.required_remainder_be.service;
+
+/**
+ * Allocation-free batch computation behind {@link RequiredRemainderService#solveInto}
+ */
+interface SolveKernel {
+
+    /**
+     * Solves cases [from, to) of the input arrays into results. A case that cannot be solved
+     * gets the sentinel of its {@link CaseStatus} and its bit set in the failure bitmap.
+     *
+     * @return Number of cases in the range that could not be solved
+     */
+    int solveInto(long[] xs, long[] ys, long[] ns, int from, int to, long[] results, long[] failures);
+}
@@ -0,0 +1,200 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+@Service
+@Slf4j
+public class StreamingSolveService {
+
+    private static final int FLUSH_INTERVAL = 1024;
+    private static final int X_SEEN = 1;
+    private static final int Y_SEEN = 2;
+    private static final int N_SEEN = 4;
+    private static final int ALL_SEEN = X_SEEN | Y_SEEN | N_SEEN;
+
+    private final RequiredRemainderService requiredRemainderService;
+    private final JsonFactory jsonFactory;
+    private final SolveMetrics solveMetrics;
+
+    public StreamingSolveService(RequiredRemainderService requiredRemainderService, ObjectMapper objectMapper,
+                                 SolveMetrics solveMetrics) {
+        this.requiredRemainderService = requiredRemainderService;
+        this.jsonFactory = objectMapper.getFactory();
+        this.solveMetrics = solveMetrics;
+    }
+
+    /**
+     * Solves test cases one at a time while they are read, writing one result per line.
+     * The input may be newline-delimited JSON objects or a single JSON array of objects;
+     * neither the cases nor the results are ever held in memory as a whole.
+     * A case that is incomplete or fails validation produces a {@code null} line.
+     * <p>
+     * A body that turns out to be malformed after results were written can no longer be
+     * answered with an error status, so the stream ends with an {@code {"error": ...}} line
+     * instead of a result.
+     *
+     * @param input  request body
+     * @param output response body, receives newline-delimited results
+     * @return number of cases solved
+     * @throws ValidationException if the body is malformed before the first case
+     */
+    public long solveStream(InputStream input, OutputStream output) throws IOException {
+        boolean traced = SolveDiagnostics.isEnabled();
+        long start = System.nanoTime();
+        long count = 0;
+        long failed = 0;
+        String error = null;
+        JsonGenerator generator = jsonFactory.createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        FlushingInputStream source = new FlushingInputStream(input, generator);
+        try (JsonParser parser = jsonFactory.createParser(source)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new ValidationException("Each test case must be a JSON object");
+                }
+                long result = writeResult(generator, parser);
+                if (result < 0) {
+                    failed++;
+                }
+                count++;
+                if (traced) {
+                    log.info("Streamed test case {}: {}", count, result);
+                }
+                source.written();
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            error = "Malformed test case stream: " + e.getOriginalMessage();
+        } catch (ValidationException e) {
+            error = e.getMessage();
+        }
+
+        if (error != null) {
+            if (count == 0) {
+                throw new ValidationException(error);
+            }
+            generator.writeStartObject();
+            generator.writeStringField("error", error);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+
+        long durationNanos = System.nanoTime() - start;
+        solveMetrics.recordBatch(ExecutionMode.STREAM, count, failed, durationNanos);
+        if (error != null) {
+            log.info("Stream of test cases ended after {} cases: {}", count, error);
+        }
+        log.info("Solved {} streamed test cases in {} us, {} failed", count, durationNanos / 1_000, failed);
+        return count;
+    }
+
+    /**
+     * Reads one case object and writes its result line
+     *
+     * @return The result written, negative if the case could not be solved
+     */
+    private long writeResult(JsonGenerator generator, JsonParser parser) throws IOException {
+        long x = 0;
+        long y = 0;
+        long n = 0;
+        int seen = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "x" -> {
+                    x = parser.getLongValue();
+                    seen |= X_SEEN;
+                }
+                case "y" -> {
+                    y = parser.getLongValue();
+                    seen |= Y_SEEN;
+                }
+                case "n" -> {
+                    n = parser.getLongValue();
+                    seen |= N_SEEN;
+                }
+                default -> {
+                    // unknown fields are ignored, as with the bound request
+                }
+            }
+        }
+
+        long result = seen == ALL_SEEN ? requiredRemainderService.solveCase(x, y, n) : -1L;
+        if (result < 0) {
+            // incomplete case or failure sentinel
+            generator.writeNull();
+        } else {
+            generator.writeNumber(result);
+        }
+        generator.writeRaw('\n');
+        return result;
+    }
+
+    /**
+     * Request body that flushes the results written so far before each read from the
+     * underlying stream. The parser only reads when its buffer is used up, so results never
+     * wait while it may block on more input; in between they go out every
+     * {@value StreamingSolveService#FLUSH_INTERVAL} lines.
+     */
+    private static final class FlushingInputStream extends FilterInputStream {
+
+        private final JsonGenerator generator;
+        private int pending;
+
+        FlushingInputStream(InputStream in, JsonGenerator generator) {
+            super(in);
+            this.generator = generator;
+        }
+
+        void written() throws IOException {
+            if (++pending >= FLUSH_INTERVAL) {
+                flushPending();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            flushPending();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            flushPending();
+            return super.read(b, off, len);
+        }
+
+        private void flushPending() throws IOException {
+            if (pending > 0) {
+                generator.flush();
+                pending = 0;
+            }
+        }
+    }
+}
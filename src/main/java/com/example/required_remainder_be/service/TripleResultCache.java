@@ -0,0 +1,52 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional cache of single (x, y, n) results, consulted by {@link SingleCaseCoalescer} before
+ * a case is queued. Only successful results are kept; when disabled every lookup misses.
+ */
+@Component
+public class TripleResultCache {
+
+    public static final String CACHE_NAME = "solve.triple";
+
+    private final Cache<Triple, Long> cache;
+
+    public TripleResultCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.Triple properties = cacheProperties.getTriple();
+        if (properties.isEnabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxEntries())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * @return The cached maximum k, or null on a miss
+     */
+    public Long getIfPresent(long x, long y, long n) {
+        return cache == null ? null : cache.getIfPresent(new Triple(x, y, n));
+    }
+
+    /**
+     * Caches a result of {@link RequiredRemainderService#solveCase}; failure sentinels are not cached
+     */
+    public void put(long x, long y, long n, long result) {
+        if (cache != null && result >= 0) {
+            cache.put(new Triple(x, y, n), result);
+        }
+    }
+
+    private record Triple(long x, long y, long n) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.required_remainder_be.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.ONE_BILLION;
+import static com.example.required_remainder_be.constants.GeneralConstants.TWO;
+import static com.example.required_remainder_be.constants.GeneralConstants.ZERO;
+
+/**
+ * SIMD kernel on the incubating Vector API, one register of cases per iteration.
+ * Only loaded when {@code app.solve.vector-kernel} is set and the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}.
+ * <p>
+ * There is no SIMD integer division, so the quotient goes through doubles. For valid lanes
+ * 0 ≤ n - y &lt; 2^30 and x &lt; 2^30: the true quotient is at least 1/x away from the next
+ * integer, far more than the rounding error of the double division, so truncating the
+ * double quotient gives the exact integer quotient.
+ */
+final class VectorSolveKernel implements SolveKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private final SolveKernel tail = new ScalarSolveKernel();
+
+    @Override
+    public int solveInto(long[] xs, long[] ys, long[] ns, int from, int to, long[] results, long[] failures) {
+        int failed = 0;
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += SPECIES.length()) {
+            LongVector x = LongVector.fromArray(SPECIES, xs, i);
+            LongVector y = LongVector.fromArray(SPECIES, ys, i);
+            LongVector n = LongVector.fromArray(SPECIES, ns, i);
+
+            VectorMask<Long> valid = x.compare(VectorOperators.GE, TWO)
+                    .and(x.compare(VectorOperators.LE, ONE_BILLION))
+                    .and(y.compare(VectorOperators.GE, ZERO))
+                    .and(y.compare(VectorOperators.LT, x))
+                    .and(n.compare(VectorOperators.GE, y))
+                    .and(n.compare(VectorOperators.LE, ONE_BILLION));
+
+            DoubleVector dividend = (DoubleVector) n.sub(y).convert(VectorOperators.L2D, 0);
+            DoubleVector divisor = (DoubleVector) x.convert(VectorOperators.L2D, 0);
+            LongVector quotient = (LongVector) dividend.div(divisor).convert(VectorOperators.D2L, 0);
+            // invalid lanes hold garbage here and are overwritten below
+            quotient.mul(x).add(y).intoArray(results, i);
+
+            if (!valid.allTrue()) {
+                for (long invalid = valid.not().toLong(); invalid != 0; invalid &= invalid - 1) {
+                    ScalarSolveKernel.markFailed(xs, ys, ns, i + Long.numberOfTrailingZeros(invalid),
+                            results, failures);
+                    failed++;
+                }
+            }
+        }
+        failed += tail.solveInto(xs, ys, ns, i, to, results, failures);
+        return failed;
+    }
+}
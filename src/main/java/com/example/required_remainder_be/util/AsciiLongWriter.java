@@ -0,0 +1,52 @@
+package com.example.required_remainder_be.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes longs as decimal ASCII straight into a byte buffer, as {@link Long#toString(long)}
+ * would, without allocating a String per value. Shared by the writers that stream results.
+ */
+public final class AsciiLongWriter {
+
+    /**
+     * Length of the longest long, -9223372036854775808
+     */
+    public static final int MAX_LENGTH = 20;
+
+    private static final byte[] MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private AsciiLongWriter() {
+    }
+
+    /**
+     * Writes the digits of a value, with a leading '-' when negative. The caller makes sure
+     * that {@value #MAX_LENGTH} bytes are free from the position on.
+     *
+     * @return The position after the last digit
+     */
+    public static int write(byte[] buffer, int position, long value) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(MIN_VALUE, 0, buffer, position, MIN_VALUE.length);
+            return position + MIN_VALUE.length;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digitCount(value);
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
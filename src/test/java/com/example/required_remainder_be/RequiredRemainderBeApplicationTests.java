@@ -3,7 +3,7 @@ package com.example.required_remainder_be;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.grpc.port=0")
 class RequiredRemainderBeApplicationTests {
 
 	@Test
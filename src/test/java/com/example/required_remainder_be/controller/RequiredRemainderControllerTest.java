@@ -1,25 +1,50 @@
 package com.example.required_remainder_be.controller;
 
+import com.example.required_remainder_be.config.ErrorLoggingProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatchResponse;
 import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.exception.GlobalExceptionHandler;
+import com.example.required_remainder_be.exception.RequestValidationException;
 import com.example.required_remainder_be.exception.RequiredRemainderException;
+import com.example.required_remainder_be.exception.TraceIds;
 import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.service.RequiredRemainderRequestValidator;
 import com.example.required_remainder_be.service.RequiredRemainderService;
+import com.example.required_remainder_be.service.SingleCaseCoalescer;
+import com.example.required_remainder_be.service.StreamingSolveService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.IOException;
+
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RequiredRemainderController Unit Tests")
@@ -28,6 +53,15 @@ class RequiredRemainderControllerTest {
     @Mock
     private RequiredRemainderService requiredRemainderService;
 
+    @Mock
+    private StreamingSolveService streamingSolveService;
+
+    @Mock
+    private RequiredRemainderRequestValidator requestValidator;
+
+    @Mock
+    private SingleCaseCoalescer singleCaseCoalescer;
+
     @InjectMocks
     private RequiredRemainderController requiredRemainderController;
 
@@ -134,4 +168,91 @@ class RequiredRemainderControllerTest {
         assertEquals("Unprocessable Entity", thrown.getErrorCode());
         verify(requiredRemainderService, times(1)).solveCases(validRequests);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not solve cases rejected by the validator")
+    void solveCases_WhenValidatorRejects_ShouldNotCallService() {
+        RequestValidationException rejection = new RequestValidationException(1, Collections.emptyList());
+        doThrow(rejection).when(requestValidator).validate(validRequests);
+
+        RequestValidationException thrown = assertThrows(RequestValidationException.class, () -> {
+            requiredRemainderController.solveCases(validRequests);
+        });
+
+        assertSame(rejection, thrown);
+        verifyNoInteractions(requiredRemainderService);
+    }
+
+    @Test
+    @DisplayName("Should return wide results from the service")
+    void solveCasesWide_ShouldReturnServiceResults() {
+        WideRequiredRemainderRequest wideRequest = new WideRequiredRemainderRequest();
+        wideRequest.setX(BigInteger.TEN);
+        wideRequest.setY(BigInteger.valueOf(3));
+        wideRequest.setN(BigInteger.TWO.pow(80));
+        List<WideRequiredRemainderRequest> requests = Collections.singletonList(wideRequest);
+        List<BigInteger> expected = Collections.singletonList(new BigInteger("1208925819614629174706173"));
+        when(requiredRemainderService.solveCasesWide(requests)).thenReturn(expected);
+
+        ResponseEntity<List<BigInteger>> response = requiredRemainderController.solveCasesWide(requests);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(expected, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return detailed response from the service")
+    void solveCasesDetailed_ShouldReturnServiceResponse() {
+        RequiredRemainderBatchResponse expected =
+                new RequiredRemainderBatchResponse(Arrays.asList(13L), 0, Collections.emptyList());
+        when(requiredRemainderService.solveCasesDetailed(anyList())).thenReturn(expected);
+
+        ResponseEntity<RequiredRemainderBatchResponse> response =
+                requiredRemainderController.solveCasesDetailed(validRequests);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(expected, response.getBody());
+        verify(requiredRemainderService, times(1)).solveCasesDetailed(validRequests);
+    }
+
+    @Test
+    @DisplayName("Should stream request body to the streaming service as NDJSON")
+    void solveCasesStream_ShouldDelegateToStreamingService() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("{\"x\":7,\"y\":5,\"n\":12345}\n".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        requiredRemainderController.solveCasesStream(request, response);
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        verify(streamingSolveService, times(1)).solveStream(any(), any());
+        verifyNoInteractions(requiredRemainderService);
+    }
+
+    @Test
+    @DisplayName("Should solve a single case from query parameters through the coalescer")
+    void solveCase_WithValidParameters_ShouldReturnResult() {
+        when(singleCaseCoalescer.findMaxK(7, 5, 12345)).thenReturn(12339L);
+
+        ResponseEntity<Long> response = requiredRemainderController.solveCase(7, 5, 12345);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(12339L, response.getBody());
+        verifyNoInteractions(requiredRemainderService);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"y=5&n=12345", "x=&y=5&n=12345"})
+    @DisplayName("Should answer 400 naming the parameter when a single case parameter is missing or empty")
+    void solveCase_WithMissingParameter_ShouldReturnBadRequest(String query) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(requiredRemainderController)
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorLoggingProperties()))
+                .build();
+
+        mockMvc.perform(get("/api/required-remainder/solve?" + query))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field").value("x"))
+                .andExpect(header().exists(TraceIds.TRACE_ID_HEADER));
+        verifyNoInteractions(singleCaseCoalescer);
+    }
+}
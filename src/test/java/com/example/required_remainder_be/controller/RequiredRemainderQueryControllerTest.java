@@ -0,0 +1,120 @@
+package com.example.required_remainder_be.controller;
+
+import com.example.required_remainder_be.config.ErrorLoggingProperties;
+import com.example.required_remainder_be.config.QueryProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.exception.GlobalExceptionHandler;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("RequiredRemainderQueryController Tests")
+class RequiredRemainderQueryControllerTest {
+
+    private RequiredRemainderQueryController controller;
+
+    @BeforeEach
+    void setUp() {
+        QueryProperties queryProperties = new QueryProperties();
+        queryProperties.setMaxPageSize(100);
+        controller = new RequiredRemainderQueryController(
+                new RequiredRemainderService(new SolveProperties(), new SolveMetrics(new SimpleMeterRegistry())),
+                queryProperties);
+    }
+
+    @Test
+    @DisplayName("Should stream one page of k values as NDJSON with paging headers")
+    void enumerateK_ShouldStreamPageWithHeaders() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.enumerateK(5, 2, 0, 30, 1, 3, false, response);
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals("7\n12\n17\n", response.getContentAsString());
+        assertEquals("6", response.getHeader(RequiredRemainderQueryController.TOTAL_COUNT_HEADER));
+        assertEquals("4", response.getHeader(RequiredRemainderQueryController.NEXT_OFFSET_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should omit the next offset on the last page")
+    void enumerateK_OnLastPage_ShouldOmitNextOffset() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.enumerateK(1000000000, 999999999, 0, 1000000000, 0, 10, true, response);
+
+        assertEquals("999999999\n", response.getContentAsString());
+        assertNull(response.getHeader(RequiredRemainderQueryController.NEXT_OFFSET_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should return an empty last page for an offset near Long.MAX_VALUE")
+    void enumerateK_WithHugeOffset_ShouldOmitNextOffset() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.enumerateK(5, 2, 0, 30, Long.MAX_VALUE, 10, false, response);
+
+        assertEquals("", response.getContentAsString());
+        assertNull(response.getHeader(RequiredRemainderQueryController.NEXT_OFFSET_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should reject pages larger than the configured maximum")
+    void enumerateK_WithLimitAboveMaximum_ShouldThrowValidationException() {
+        ValidationException thrown = assertThrows(ValidationException.class,
+                () -> controller.enumerateK(5, 2, 0, 30, 0, 101, false, new MockHttpServletResponse()));
+        assertEquals("limit", thrown.getField());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty page instead of pointing the next offset back at itself")
+    void enumerateK_WithZeroLimit_ShouldThrowValidationException() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ValidationException thrown = assertThrows(ValidationException.class,
+                () -> controller.enumerateK(5, 2, 0, 30, 1, 0, false, response));
+        assertEquals("limit", thrown.getField());
+        assertNull(response.getHeader(RequiredRemainderQueryController.NEXT_OFFSET_HEADER));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/query/count?x=5", "/query/min?x=5", "/query/nearest?x=5&target=10", "/query/ks?x=5&y="})
+    @DisplayName("Should answer 400 naming the parameter when a required parameter is missing or empty")
+    void query_WithMissingParameter_ShouldReturnBadRequest(String path) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorLoggingProperties()))
+                .build();
+
+        mockMvc.perform(get("/api/required-remainder" + path))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field").value("y"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 naming the target when nearest is called without one")
+    void nearestK_WithoutTarget_ShouldReturnBadRequest() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(new ErrorLoggingProperties()))
+                .build();
+
+        mockMvc.perform(get("/api/required-remainder/query/nearest?x=5&y=2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.field").value("target"));
+    }
+}
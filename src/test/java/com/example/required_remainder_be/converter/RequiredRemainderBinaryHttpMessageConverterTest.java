@@ -0,0 +1,78 @@
+package com.example.required_remainder_be.converter;
+
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequiredRemainderBinaryHttpMessageConverter Tests")
+class RequiredRemainderBinaryHttpMessageConverterTest {
+
+    private RequiredRemainderBinaryHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new RequiredRemainderBinaryHttpMessageConverter();
+    }
+
+    @Test
+    @DisplayName("Should read packed little-endian int32 triples")
+    void read_WithPackedTriples_ShouldFillBatch() throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(2 * 12).order(ByteOrder.LITTLE_ENDIAN);
+        body.putInt(7).putInt(5).putInt(12345);
+        body.putInt(1000000000).putInt(999999999).putInt(1000000000);
+        MockHttpInputMessage input = new MockHttpInputMessage(body.array());
+        input.getHeaders().setContentType(RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE);
+
+        RequiredRemainderBatch batch = (RequiredRemainderBatch) converter.read(RequiredRemainderBatch.class, input);
+
+        assertEquals(2, batch.getSize());
+        assertEquals(7, batch.getXs()[0]);
+        assertEquals(5, batch.getYs()[0]);
+        assertEquals(12345, batch.getNs()[0]);
+        assertEquals(1000000000, batch.getXs()[1]);
+        assertEquals(999999999, batch.getYs()[1]);
+        assertEquals(1000000000, batch.getNs()[1]);
+    }
+
+    @Test
+    @DisplayName("Should reject a body with a partial triple")
+    void read_WithPartialTriple_ShouldThrowNotReadable() {
+        MockHttpInputMessage input = new MockHttpInputMessage(new byte[13]);
+
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(RequiredRemainderBatch.class, input));
+    }
+
+    @Test
+    @DisplayName("Should write packed little-endian int64 results")
+    void write_WithResults_ShouldWritePackedLongs() throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(new long[]{12339L, -1L}, RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE, output);
+
+        ByteBuffer body = ByteBuffer.wrap(output.getBodyAsBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(16, body.remaining());
+        assertEquals(12339L, body.getLong());
+        assertEquals(-1L, body.getLong());
+        assertEquals(16L, output.getHeaders().getContentLength());
+    }
+
+    @Test
+    @DisplayName("Should only read batches and only write result arrays")
+    void canReadAndWrite_ShouldMatchBatchTypes() {
+        assertTrue(converter.canRead(RequiredRemainderBatch.class, RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE));
+        assertFalse(converter.canRead(long[].class, RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE));
+        assertTrue(converter.canWrite(long[].class, RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE));
+        assertFalse(converter.canWrite(RequiredRemainderBatch.class, RequiredRemainderBinaryHttpMessageConverter.BINARY_MEDIA_TYPE));
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.required_remainder_be.converter;
+
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderRequestList;
+import com.example.required_remainder_be.dto.RequiredRemainderResultList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequestList;
+import com.example.required_remainder_be.dto.WideRequiredRemainderResultList;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequiredRemainderJsonHttpMessageConverter Tests")
+class RequiredRemainderJsonHttpMessageConverterTest {
+
+    private static final Type REQUEST_LIST = new ParameterizedTypeReference<List<RequiredRemainderRequest>>() {
+    }.getType();
+    private static final Type RESULT_LIST = new ParameterizedTypeReference<List<Long>>() {
+    }.getType();
+    private static final Type WIDE_REQUEST_LIST = new ParameterizedTypeReference<List<WideRequiredRemainderRequest>>() {
+    }.getType();
+    private static final Type WIDE_RESULT_LIST = new ParameterizedTypeReference<List<BigInteger>>() {
+    }.getType();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RequiredRemainderJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new RequiredRemainderJsonHttpMessageConverter(objectMapper);
+    }
+
+    private List<RequiredRemainderRequest> read(String body) throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        @SuppressWarnings("unchecked")
+        List<RequiredRemainderRequest> requests =
+                (List<RequiredRemainderRequest>) converter.read(REQUEST_LIST, null, input);
+        return requests;
+    }
+
+    private String write(List<Long> results) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(results, RESULT_LIST, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<WideRequiredRemainderRequest> readWide(String body) throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        @SuppressWarnings("unchecked")
+        List<WideRequiredRemainderRequest> requests =
+                (List<WideRequiredRemainderRequest>) converter.read(WIDE_REQUEST_LIST, null, input);
+        return requests;
+    }
+
+    private String writeWide(List<BigInteger> results) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(results, WIDE_RESULT_LIST, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private void assertReadsLikeDatabind(String body) throws IOException {
+        List<RequiredRemainderRequest> expected = objectMapper.readValue(body, new TypeReference<>() {
+        });
+        List<RequiredRemainderRequest> actual = read(body);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            RequiredRemainderRequest e = expected.get(i);
+            RequiredRemainderRequest a = actual.get(i);
+            if (e == null) {
+                assertNull(a, "case " + i);
+                continue;
+            }
+            assertEquals(e.getX(), a.getX(), "x of case " + i);
+            assertEquals(e.getY(), a.getY(), "y of case " + i);
+            assertEquals(e.getN(), a.getN(), "n of case " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read cases into primitive arrays")
+    void read_WithCases_ShouldFillBatch() throws IOException {
+        List<RequiredRemainderRequest> requests = read("[{\"x\":7,\"y\":5,\"n\":12345},{\"n\":4,\"x\":5,\"y\":0}]");
+
+        RequiredRemainderRequestList list = assertInstanceOf(RequiredRemainderRequestList.class, requests);
+        assertEquals(2, list.getBatch().getSize());
+        assertArrayEquals(new long[]{7, 5}, Arrays.copyOf(list.getBatch().getXs(), 2));
+        assertArrayEquals(new long[]{5, 0}, Arrays.copyOf(list.getBatch().getYs(), 2));
+        assertArrayEquals(new long[]{12345, 4}, Arrays.copyOf(list.getBatch().getNs(), 2));
+        assertTrue(list.getIrregularCases().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read the same cases as databind")
+    void read_WithIrregularInput_ShouldMatchDatabind() throws IOException {
+        assertReadsLikeDatabind("[]");
+        assertReadsLikeDatabind(" [ {\"x\" : 7 , \"y\":5,\"n\":12345} ]\n");
+        assertReadsLikeDatabind("[null,{\"x\":7,\"n\":10},{\"x\":null,\"y\":1,\"n\":2}]");
+        assertReadsLikeDatabind("[{\"x\":\"7\",\"y\":5.0,\"n\":-3}]");
+        assertReadsLikeDatabind("[{\"x\":1,\"x\":2,\"y\":0,\"n\":4,\"n\":null}]");
+        assertReadsLikeDatabind("[{\"x\":7,\"y\":5,\"n\":9,\"meta\":{\"x\":1,\"list\":[1,{\"y\":2}]},\"tag\":\"a\"}]");
+    }
+
+    @Test
+    @DisplayName("Should keep null entries and missing values for validation")
+    void read_WithNullEntries_ShouldRecordIrregularCases() throws IOException {
+        RequiredRemainderRequestList list = (RequiredRemainderRequestList) read("[{\"x\":7,\"y\":5,\"n\":9},null,{\"x\":7}]");
+
+        assertEquals(List.of(1, 2), new ArrayList<>(list.getIrregularCases().keySet()));
+        assertNull(list.get(1));
+        assertNull(list.get(2).getY());
+        assertEquals(-1, list.getBatch().getYs()[2]);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bodies")
+    void read_WithMalformedBody_ShouldThrowNotReadable() {
+        for (String body : List.of("{\"x\":7}", "[1,2]", "[{\"x\":7",
+                "[{\"x\":99999999999999999999}]", "[{\"x\":[1]}]")) {
+            assertThrows(HttpMessageNotReadableException.class, () -> read(body), body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only handle the solve contract types")
+    void canReadAndWrite_ShouldMatchSolveTypesOnly() {
+        assertTrue(converter.canRead(REQUEST_LIST, null, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(new ParameterizedTypeReference<List<Long>>() {
+        }.getType(), null, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(REQUEST_LIST, null, MediaType.APPLICATION_XML));
+        assertTrue(converter.canWrite(RESULT_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(RESULT_LIST, List.class, null));
+        assertTrue(converter.canRead(WIDE_REQUEST_LIST, null, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(WIDE_RESULT_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<Integer>>() {
+        }.getType(), List.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes as databind")
+    void write_WithResults_ShouldMatchDatabind() throws IOException {
+        List<Long> results = Arrays.asList(12339L, null, 0L, 1_000_000_000L, -5L, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertEquals(objectMapper.writeValueAsString(results), write(results));
+        assertEquals("[]", write(List.of()));
+    }
+
+    @Test
+    @DisplayName("Should write solved results from their arrays across buffer refills")
+    void write_WithResultList_ShouldMatchDatabind() throws IOException {
+        int size = 5_000;
+        long[] values = new long[size];
+        long[] failures = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            values[i] = (long) i * 199_999L;
+            if (i % 7 == 0) {
+                failures[i >>> 6] |= 1L << i;
+            }
+        }
+        RequiredRemainderResultList results = new RequiredRemainderResultList(values, failures);
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(results)), write(results));
+    }
+
+    @Test
+    @DisplayName("Should leave room for the closing bracket after the longest value")
+    void write_WithLongestValueAtBufferEnd_ShouldMatchDatabind() throws IOException {
+        // "[10" and 4084 times ",0" fill 8171 bytes, so the last value ends the 8192-byte buffer
+        List<Long> results = new ArrayList<>();
+        results.add(10L);
+        results.addAll(Collections.nCopies(4084, 0L));
+        results.add(Long.MIN_VALUE);
+
+        assertEquals(objectMapper.writeValueAsString(results), write(results));
+    }
+
+    @Test
+    @DisplayName("Should not presize arrays from a large declared Content-Length")
+    void read_WithLargeDeclaredContentLength_ShouldCapPresizedCapacity() throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(
+                "[{\"x\":7,\"y\":5,\"n\":12345}]".getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        input.getHeaders().setContentLength(1L << 30);
+
+        RequiredRemainderRequestList requests = (RequiredRemainderRequestList) converter.read(REQUEST_LIST, null, input);
+
+        assertEquals(1, requests.size());
+        assertTrue(requests.getBatch().getXs().length <= 1 << 16);
+    }
+
+    @Test
+    @DisplayName("Wide: should read values that fit in a long into the batch and keep only the others as BigInteger")
+    void readWide_WithMixedMagnitudes_ShouldOnlyKeepBigCasesBound() throws IOException {
+        String huge = BigInteger.TWO.pow(100).toString();
+        List<WideRequiredRemainderRequest> requests = readWide("[{\"x\":7,\"y\":5,\"n\":9223372036854775807},"
+                + "{\"x\":10,\"y\":3,\"n\":" + huge + "},{\"x\":\"10\",\"y\":3,\"n\":\"" + huge + "\"},null]");
+
+        WideRequiredRemainderRequestList list = assertInstanceOf(WideRequiredRemainderRequestList.class, requests);
+        assertEquals(4, list.size());
+        assertEquals(Long.MAX_VALUE, list.getBatch().getNs()[0]);
+        assertEquals(List.of(1, 2, 3), new ArrayList<>(list.getIrregularCases().keySet()));
+        assertEquals(-1, list.getBatch().getNs()[1]);
+        assertEquals(10, list.getBatch().getXs()[2]);
+        assertEquals(new BigInteger(huge), list.get(1).getN());
+        assertEquals(new BigInteger(huge), list.get(2).getN());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE), list.get(0).getN());
+        assertNull(list.get(3));
+    }
+
+    @Test
+    @DisplayName("Wide: should read the same cases as databind")
+    void readWide_WithIrregularInput_ShouldMatchDatabind() throws IOException {
+        for (String body : List.of("[]", "[null,{\"x\":7,\"n\":10},{\"x\":null,\"y\":1,\"n\":99999999999999999999}]",
+                "[{\"x\":\"7\",\"y\":5.0,\"n\":-3}]", "[{\"x\":99999999999999999999,\"x\":2,\"y\":0,\"n\":5}]")) {
+            List<WideRequiredRemainderRequest> expected = objectMapper.readValue(body, new TypeReference<>() {
+            });
+            List<WideRequiredRemainderRequest> actual = readWide(body);
+            assertEquals(expected.size(), actual.size(), body);
+            for (int i = 0; i < expected.size(); i++) {
+                WideRequiredRemainderRequest e = expected.get(i);
+                WideRequiredRemainderRequest a = actual.get(i);
+                if (e == null) {
+                    assertNull(a, body);
+                    continue;
+                }
+                assertEquals(e.getX(), a.getX(), body);
+                assertEquals(e.getY(), a.getY(), body);
+                assertEquals(e.getN(), a.getN(), body);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Wide: should write long and BigInteger results as databind does")
+    void writeWide_WithResultList_ShouldMatchDatabind() throws IOException {
+        int size = 3_000;
+        long[] values = new long[size];
+        long[] failures = new long[(size + 63) >>> 6];
+        TreeMap<Integer, BigInteger> bigValues = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            values[i] = (long) i * 3_074_457_345_618_258L;
+            if (i % 7 == 0) {
+                failures[i >>> 6] |= 1L << i;
+            } else if (i % 5 == 0) {
+                bigValues.put(i, BigInteger.TWO.pow(64 + i % 900));
+            }
+        }
+        WideRequiredRemainderResultList results = new WideRequiredRemainderResultList(values, failures, bigValues);
+
+        assertEquals(objectMapper.writeValueAsString(new ArrayList<>(results)), writeWide(results));
+        List<BigInteger> plain = Arrays.asList(BigInteger.TEN, null, new BigInteger("7".repeat(10_000)));
+        assertEquals(objectMapper.writeValueAsString(plain), writeWide(plain));
+    }
+}
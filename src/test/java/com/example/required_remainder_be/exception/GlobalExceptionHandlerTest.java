@@ -0,0 +1,144 @@
+package com.example.required_remainder_be.exception;
+
+import com.example.required_remainder_be.config.ErrorLoggingProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.MALFORMED_REQUEST_BODY;
+import static com.example.required_remainder_be.constants.GeneralConstants.NO_VALID_SOLUTION;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest servletRequest;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GlobalExceptionHandler(new ErrorLoggingProperties());
+        servletRequest = new MockHttpServletRequest("POST", "/api/required-remainder/solve");
+    }
+
+    private JsonNode body(ResponseEntity<byte[]> response) throws IOException {
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        return objectMapper.readTree(response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should write the ErrorResponse layout without Jackson")
+    void handleRequiredRemainderException_ShouldWriteErrorResponseJson() throws IOException {
+        RequiredRemainderException ex = new RequiredRemainderException(
+                NO_VALID_SOLUTION, HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity");
+
+        ResponseEntity<byte[]> response =
+                handler.handleRequiredRemainderException(ex, new ServletWebRequest(servletRequest));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        JsonNode body = body(response);
+        assertEquals("Unprocessable Entity", body.get("errorCode").asText());
+        assertEquals(NO_VALID_SOLUTION, body.get("message").asText());
+        assertEquals("uri=/api/required-remainder/solve", body.get("path").asText());
+        assertFalse(body.has("field"));
+        assertEquals(body.get("traceId").asText(), response.getHeaders().getFirst(TraceIds.TRACE_ID_HEADER));
+        assertEquals(16, body.get("traceId").asText().length());
+    }
+
+    @Test
+    @DisplayName("Should tell a shed client when to retry")
+    void handleAdmissionRejectedException_WhenOverloaded_ShouldSetRetryAfter() throws IOException {
+        AdmissionRejectedException ex = new AdmissionRejectedException(
+                "busy", HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(3));
+
+        ResponseEntity<byte[]> response =
+                handler.handleAdmissionRejectedException(ex, new ServletWebRequest(servletRequest));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("busy", body(response).get("message").asText());
+        assertNotNull(response.getHeaders().getFirst(TraceIds.TRACE_ID_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should not ask for a retry of a request that is too large")
+    void handleAdmissionRejectedException_WhenTooLarge_ShouldOmitRetryAfter() {
+        AdmissionRejectedException ex = new AdmissionRejectedException(
+                "too large", HttpStatus.PAYLOAD_TOO_LARGE, null);
+
+        ResponseEntity<byte[]> response =
+                handler.handleAdmissionRejectedException(ex, new ServletWebRequest(servletRequest));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should reuse the incoming trace id header")
+    void handleValidationException_WithTraceHeader_ShouldEchoTraceId() throws IOException {
+        servletRequest.addHeader(TraceIds.TRACE_ID_HEADER, "client-trace-42");
+
+        ResponseEntity<byte[]> response = handler.handleValidationException(
+                new ValidationException("limit must be positive", "limit"), new ServletWebRequest(servletRequest));
+
+        JsonNode body = body(response);
+        assertEquals("client-trace-42", body.get("traceId").asText());
+        assertEquals("limit", body.get("field").asText());
+    }
+
+    @Test
+    @DisplayName("Should take the trace id from a W3C traceparent header")
+    void handleValidationException_WithTraceparent_ShouldUseItsTraceId() throws IOException {
+        servletRequest.addHeader(TraceIds.TRACEPARENT_HEADER,
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+        ResponseEntity<byte[]> response = handler.handleValidationException(
+                new ValidationException("bad"), new ServletWebRequest(servletRequest));
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", body(response).get("traceId").asText());
+    }
+
+    @Test
+    @DisplayName("Should not echo unsafe trace headers")
+    void handleValidationException_WithUnsafeTraceHeader_ShouldGenerateTraceId() throws IOException {
+        servletRequest.addHeader(TraceIds.TRACE_ID_HEADER, "abc\"}\n{");
+
+        ResponseEntity<byte[]> response = handler.handleValidationException(
+                new ValidationException("bad"), new ServletWebRequest(servletRequest));
+
+        assertNotEquals("abc\"}\n{", body(response).get("traceId").asText());
+    }
+
+    @Test
+    @DisplayName("Should escape messages and answer malformed bodies with a fixed message")
+    void handleMessageNotReadable_ShouldUseFixedMessage() throws IOException {
+        HttpInputMessage input = new MockHttpInputMessage(new byte[0]);
+        HttpMessageNotReadableException ex =
+                new HttpMessageNotReadableException("JSON parse error: \"quoted\"\n at [line 1]", input);
+
+        ResponseEntity<byte[]> response = handler.handleMessageNotReadable(ex, new ServletWebRequest(servletRequest));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MALFORMED_REQUEST_BODY, body(response).get("message").asText());
+
+        ResponseEntity<byte[]> escaped = handler.handleIllegalArgumentException(
+                new IllegalArgumentException("line \"one\"\nline two"), new ServletWebRequest(servletRequest));
+        assertEquals("line \"one\"\nline two", body(escaped).get("message").asText());
+    }
+}
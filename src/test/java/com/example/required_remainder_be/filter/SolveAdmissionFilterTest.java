@@ -0,0 +1,200 @@
+package com.example.required_remainder_be.filter;
+
+import com.example.required_remainder_be.config.AdmissionProperties;
+import com.example.required_remainder_be.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.BINARY_MEDIA_TYPE_VALUE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SolveAdmissionFilter Tests")
+class SolveAdmissionFilterTest {
+
+    private static final String SOLVE_URI = "/api/required-remainder/solve";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionProperties properties;
+    private List<AdmissionRejectedException> rejections;
+    private AtomicInteger invocations;
+    private SolveAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AdmissionProperties();
+        properties.setMaxCasesPerRequest(3);
+        properties.setMaxInFlightCases(3);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        rejections = new ArrayList<>();
+        invocations = new AtomicInteger();
+        filter = newFilter();
+    }
+
+    private SolveAdmissionFilter newFilter() {
+        return new SolveAdmissionFilter(properties, meterRegistry, (request, response, handler, ex) -> {
+            AdmissionRejectedException rejection = (AdmissionRejectedException) ex;
+            rejections.add(rejection);
+            response.setStatus(rejection.getStatus().value());
+            return new ModelAndView();
+        });
+    }
+
+    private final FilterChain readingChain = (request, response) -> {
+        invocations.incrementAndGet();
+        StreamUtils.copyToByteArray(request.getInputStream());
+        ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+    };
+
+    private static MockHttpServletRequest jsonRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", SOLVE_URI);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest binaryRequest(int cases) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", SOLVE_URI);
+        request.setContentType(BINARY_MEDIA_TYPE_VALUE);
+        request.setContent(new byte[cases * 12]);
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get(SolveAdmissionFilter.REJECTED).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should pass a request within the limits and release its reservation")
+    void doFilter_WithinLimits_ShouldPassAndRelease() throws Exception {
+        MockHttpServletResponse response = execute(
+                jsonRequest("[{\"x\":7,\"y\":5,\"n\":12345},{\"x\":5,\"y\":0,\"n\":4}]"), readingChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(1, invocations.get());
+        assertTrue(rejections.isEmpty());
+        assertEquals(0, filter.getInFlightCases());
+    }
+
+    @Test
+    @DisplayName("Should reject a JSON batch with 413 while its body is read")
+    void doFilter_WithTooManyJsonCases_ShouldRejectWhileReading() throws Exception {
+        String body = "[{\"x\":7,\"y\":5,\"n\":1},{\"x\":7,\"y\":5,\"n\":2},"
+                + "{\"x\":7,\"y\":5,\"n\":3},{\"x\":7,\"y\":5,\"n\":4}]";
+
+        MockHttpServletResponse response = execute(jsonRequest(body), readingChain);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), response.getStatus());
+        assertEquals(1, rejections.size());
+        assertNull(rejections.get(0).getRetryAfter());
+        assertEquals(1.0, rejected("too_large"));
+        assertEquals(0, filter.getInFlightCases());
+    }
+
+    @Test
+    @DisplayName("Should only count top-level objects of the JSON array")
+    void doFilter_WithNestedObjectsAndStrings_ShouldCountCasesOnly() throws Exception {
+        String body = "[{\"x\":7,\"y\":5,\"n\":1,\"note\":\"{\\\"x\\\":{}} [{\"},"
+                + "{\"x\":7,\"y\":5,\"n\":2,\"meta\":{\"a\":{},\"b\":[{},{}]}}]";
+
+        MockHttpServletResponse response = execute(jsonRequest(body), readingChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(rejections.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject an oversized binary batch before reading it")
+    void doFilter_WithTooManyBinaryCases_ShouldRejectUpFront() throws Exception {
+        MockHttpServletResponse response = execute(binaryRequest(4), readingChain);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), response.getStatus());
+        assertEquals(0, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should shed requests with 503 while the in-flight budget is used up")
+    void doFilter_WhenBudgetExhausted_ShouldRejectWithRetryAfter() throws Exception {
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        FilterChain holdingChain = (request, response) -> {
+            // a second request arrives while this one holds the whole budget
+            nested[0] = execute(jsonRequest("[{\"x\":7,\"y\":5,\"n\":1}]"), readingChain);
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+        };
+
+        MockHttpServletResponse response = execute(binaryRequest(3), holdingChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), nested[0].getStatus());
+        assertEquals(0, invocations.get());
+        assertEquals(Duration.ofSeconds(2), rejections.get(0).getRetryAfter());
+        assertEquals(1.0, rejected("overloaded"));
+        assertEquals(0, filter.getInFlightCases());
+    }
+
+    @Test
+    @DisplayName("Should keep a retained reservation after the response until it is released")
+    void retainReservation_ShouldHoldCasesUntilReleased() throws Exception {
+        Runnable[] release = new Runnable[1];
+        FilterChain jobChain = (request, response) -> {
+            StreamUtils.copyToByteArray(request.getInputStream());
+            release[0] = SolveAdmissionFilter.retainReservation((HttpServletRequest) request);
+        };
+        MockHttpServletRequest request = binaryRequest(2);
+        request.setRequestURI("/api/required-remainder/jobs");
+
+        execute(request, jobChain);
+
+        assertTrue(filter.getInFlightCases() >= 2);
+        release[0].run();
+        release[0].run();
+        assertEquals(0, filter.getInFlightCases());
+    }
+
+    @Test
+    @DisplayName("Should leave other endpoints alone")
+    void doFilter_WithOtherPath_ShouldNotCount() throws Exception {
+        MockHttpServletRequest request = jsonRequest("[{},{},{},{},{}]");
+        request.setRequestURI("/api/required-remainder/solve/stream");
+
+        MockHttpServletResponse response = execute(request, readingChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(rejections.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should pass everything when disabled")
+    void doFilter_WhenDisabled_ShouldPass() throws Exception {
+        properties.setEnabled(false);
+        filter = newFilter();
+
+        MockHttpServletResponse response = execute(binaryRequest(10), readingChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(1, invocations.get());
+    }
+}
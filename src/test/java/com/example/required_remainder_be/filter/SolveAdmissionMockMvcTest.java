@@ -0,0 +1,58 @@
+package com.example.required_remainder_be.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Admission rejections raised while the real message converters bind the body. The body is
+ * padded past the parser's first read, so the limit is crossed in the middle of binding.
+ */
+@SpringBootTest(properties = {
+        "app.grpc.enabled=false",
+        "app.cache.batch.enabled=false",
+        "app.admission.max-cases-per-request=3"
+})
+@AutoConfigureMockMvc
+@DisplayName("SolveAdmissionFilter MockMvc Tests")
+class SolveAdmissionMockMvcTest {
+
+    private static final String CASE = "{\"x\":7,\"y\":5,\"n\":12345}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static String bodyCrossingLimitMidStream() {
+        return "[" + CASE + " ".repeat(16 * 1024) + ("," + CASE).repeat(4) + "]";
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/solve", "/solve/detailed", "/solve/wide", "/jobs"})
+    @DisplayName("Should answer 413 when the limit is crossed while the body is bound")
+    void post_WithTooManyCasesMidBody_ShouldReturnPayloadTooLarge(String path) throws Exception {
+        mockMvc.perform(post("/api/required-remainder" + path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bodyCrossingLimitMidStream()))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(header().doesNotExist("Retry-After"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/solve", "/solve/wide", "/jobs"})
+    @DisplayName("Should accept a body within the limit")
+    void post_WithinLimit_ShouldBeAdmitted(String path) throws Exception {
+        mockMvc.perform(post("/api/required-remainder" + path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + CASE + "," + CASE + "]"))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.required_remainder_be.filter;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.example.required_remainder_be.service.SolveDiagnostics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SolveResponseCacheFilter Tests")
+class SolveResponseCacheFilterTest {
+
+    private static final String SOLVE_URI = "/api/required-remainder/solve";
+    private static final String BODY = "[{\"x\":7,\"y\":5,\"n\":12345}]";
+
+    private SolveResponseCacheFilter filter;
+    private AtomicInteger invocations;
+    private int status;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SolveResponseCacheFilter(new CacheProperties(), new SimpleMeterRegistry());
+        invocations = new AtomicInteger();
+        status = HttpServletResponse.SC_OK;
+        chain = (request, response) -> {
+            invocations.incrementAndGet();
+            String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"echo\":" + body.length() + "}");
+        };
+    }
+
+    @Test
+    @DisplayName("Should answer an identical request from the cache")
+    void doFilter_WithRepeatedBody_ShouldHitCache() throws Exception {
+        MockHttpServletResponse first = execute(jsonRequest(BODY));
+        MockHttpServletResponse second = execute(jsonRequest(BODY));
+
+        assertEquals(1, invocations.get());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("{\"echo\":" + BODY.length() + "}", second.getContentAsString());
+        assertTrue(second.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should solve again when the body differs")
+    void doFilter_WithDifferentBody_ShouldMissCache() throws Exception {
+        execute(jsonRequest(BODY));
+        execute(jsonRequest("[{\"x\":5,\"y\":0,\"n\":4}]"));
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache error responses")
+    void doFilter_WithErrorResponse_ShouldNotStore() throws Exception {
+        status = HttpServletResponse.SC_BAD_REQUEST;
+        execute(jsonRequest(BODY));
+        execute(jsonRequest(BODY));
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache for diagnostic requests")
+    void doFilter_WithDiagnosticsHeader_ShouldBypassCache() throws Exception {
+        execute(jsonRequest(BODY));
+        MockHttpServletRequest traced = jsonRequest(BODY);
+        traced.addHeader(SolveDiagnostics.HEADER, "true");
+        execute(traced);
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache for bodies over the size limit")
+    void doFilter_WithLargeBody_ShouldBypassCache() throws Exception {
+        CacheProperties properties = new CacheProperties();
+        properties.getBatch().setMaxBodySize(DataSize.ofBytes(8));
+        filter = new SolveResponseCacheFilter(properties, new SimpleMeterRegistry());
+
+        execute(jsonRequest(BODY));
+        execute(jsonRequest(BODY));
+
+        assertEquals(2, invocations.get());
+    }
+
+    private MockHttpServletRequest jsonRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", SOLVE_URI);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.required_remainder_be.grpc;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.example.required_remainder_be.service.CaseStatus;
+import com.example.required_remainder_be.service.RequiredRemainderService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequiredRemainderGrpcService Tests")
+class RequiredRemainderGrpcServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequiredRemainderService requiredRemainderService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        requiredRemainderService = new RequiredRemainderService(new SolveProperties(),
+                new SolveMetrics(meterRegistry));
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new RequiredRemainderGrpcService(requiredRemainderService))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        requiredRemainderService.shutdown();
+    }
+
+    private static SolveRequest request(long[]... cases) {
+        SolveRequest.Builder request = SolveRequest.newBuilder();
+        for (long[] c : cases) {
+            request.addX(c[0]).addY(c[1]).addN(c[2]);
+        }
+        return request.build();
+    }
+
+    @Test
+    @DisplayName("Should solve a unary batch with sentinels for failed cases")
+    void solve_WithMixedCases_ShouldReturnResultsAndSentinels() {
+        SolveResponse response = RequiredRemainderGrpc.newBlockingStub(channel)
+                .solve(request(new long[]{7, 5, 12345}, new long[]{5, 0, 4}, new long[]{1, 0, 10}));
+
+        assertEquals(List.of(12339L, 0L, CaseStatus.INVALID_X.getSentinel()), response.getResultList());
+        assertEquals(1, response.getFailed());
+    }
+
+    @Test
+    @DisplayName("Should fail with INVALID_ARGUMENT when the arrays differ in length")
+    void solve_WithMismatchedArrays_ShouldFail() {
+        SolveRequest mismatched = SolveRequest.newBuilder().addX(7).addY(5).build();
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> RequiredRemainderGrpc.newBlockingStub(channel).solve(mismatched));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should answer every streamed chunk in order")
+    void solveStream_WithSeveralChunks_ShouldAnswerInOrder() throws InterruptedException {
+        List<SolveResponse> responses = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<SolveRequest> requests = RequiredRemainderGrpc.newStub(channel)
+                .solveStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(SolveResponse response) {
+                        responses.add(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        error.set(t);
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        done.countDown();
+                    }
+                });
+
+        requests.onNext(request(new long[]{7, 5, 12345}));
+        requests.onNext(request(new long[]{10, 5, 15}, new long[]{5, 5, 10}));
+        requests.onNext(request(new long[]{2, 0, 999_999_999}));
+        requests.onCompleted();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertEquals(3, responses.size());
+        assertEquals(List.of(12339L), responses.get(0).getResultList());
+        assertEquals(List.of(15L, CaseStatus.INVALID_Y.getSentinel()), responses.get(1).getResultList());
+        assertEquals(1, responses.get(1).getFailed());
+        assertEquals(List.of(999_999_998L), responses.get(2).getResultList());
+    }
+
+    @Test
+    @DisplayName("Should end the stream with INVALID_ARGUMENT on a malformed chunk")
+    void solveStream_WithMalformedChunk_ShouldFail() throws InterruptedException {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<SolveRequest> requests = RequiredRemainderGrpc.newStub(channel)
+                .solveStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(SolveResponse response) {
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        error.set(t);
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        done.countDown();
+                    }
+                });
+
+        requests.onNext(SolveRequest.newBuilder().addX(7).build());
+        requests.onCompleted();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(error.get()).getCode());
+    }
+
+    private long solvedChunks() {
+        return meterRegistry.get(SolveMetrics.BATCH_SIZE).summary().count();
+    }
+
+    @Test
+    @DisplayName("Should stop reading and solving chunks while the client reads no responses")
+    void solveStream_WithSlowReader_ShouldStopRequestingChunks() throws InterruptedException {
+        List<SolveResponse> responses = new CopyOnWriteArrayList<>();
+        AtomicReference<ClientCallStreamObserver<SolveRequest>> call = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<SolveRequest> requests = RequiredRemainderGrpc.newStub(channel)
+                .solveStream(new ClientResponseObserver<SolveRequest, SolveResponse>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<SolveRequest> requestStream) {
+                        call.set(requestStream);
+                        // the client takes one response, then stops reading
+                        requestStream.disableAutoRequestWithInitial(1);
+                    }
+
+                    @Override
+                    public void onNext(SolveResponse response) {
+                        responses.add(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        done.countDown();
+                    }
+                });
+
+        for (int i = 0; i < 5; i++) {
+            requests.onNext(request(new long[]{7, 5, 12345 + i}));
+        }
+        requests.onCompleted();
+
+        // one chunk answered, and the server has not pulled the next one from the client
+        assertEquals(1, responses.size());
+        assertEquals(1, solvedChunks());
+
+        call.get().request(1);
+        assertEquals(2, responses.size());
+        assertEquals(2, solvedChunks());
+
+        call.get().request(10);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(5, responses.size());
+        assertEquals(5, solvedChunks());
+        assertEquals(List.of(12346L), responses.get(4).getResultList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.required_remainder_be.metrics;
+
+import com.example.required_remainder_be.config.ProfilingProperties;
+import com.example.required_remainder_be.service.ExecutionMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JfrRecordingEndpoint Tests")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private ProfilingProperties properties;
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProfilingProperties();
+        properties.setContinuous(false);
+        properties.setDirectory(directory);
+        endpoint = new JfrRecordingEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("Should record solve batch events and return the recording once stopped")
+    void shouldRecordSolveBatchEvents() throws Exception {
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.start(Duration.ofMinutes(1), "default").getStatus());
+
+        new SolveMetrics(new SimpleMeterRegistry()).recordBatch(ExecutionMode.SEQUENTIAL, 3, 1, 1_000);
+
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.stop().getStatus());
+        WebEndpointResponse<Resource> recording = endpoint.recording();
+        assertEquals(WebEndpointResponse.STATUS_OK, recording.getStatus());
+
+        List<RecordedEvent> batches = RecordingFile.readAllEvents(download(recording)).stream()
+                .filter(event -> event.getEventType().getName().equals(SolveBatchEvent.NAME))
+                .toList();
+        assertEquals(1, batches.size());
+        assertEquals("sequential", batches.get(0).getString("mode"));
+        assertEquals(3, batches.get(0).getLong("size"));
+        assertEquals(1, batches.get(0).getLong("failed"));
+    }
+
+    @Test
+    @DisplayName("Should serve overlapping snapshots independently and leave no files behind")
+    void shouldDeleteSnapshotsOnceDownloaded() throws Exception {
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.start(Duration.ofMinutes(1), null).getStatus());
+
+        WebEndpointResponse<Resource> first = endpoint.recording();
+        WebEndpointResponse<Resource> second = endpoint.recording();
+
+        assertFalse(RecordingFile.readAllEvents(download(second)).isEmpty());
+        assertFalse(RecordingFile.readAllEvents(download(first)).isEmpty());
+        assertEquals(List.of(), snapshots());
+    }
+
+    @Test
+    @DisplayName("Should reject a second recording while one is running")
+    void shouldRejectConcurrentRecording() {
+        assertEquals(WebEndpointResponse.STATUS_OK, endpoint.start(null, null).getStatus());
+        assertEquals(409, endpoint.start(null, null).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should cap the duration at the configured maximum")
+    void shouldCapDuration() {
+        properties.setMaxDuration(Duration.ofSeconds(30));
+
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start(Duration.ofHours(1), null);
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertEquals(Duration.ofSeconds(30), response.getBody().get("duration"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown settings")
+    void shouldRejectUnknownSettings() {
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start(null, "no-such-settings").getStatus());
+    }
+
+    private Path download(WebEndpointResponse<Resource> recording) throws IOException {
+        Path copy = Files.createTempFile(directory, "download-", ".jfr");
+        try (InputStream body = recording.getBody().getInputStream()) {
+            Files.copy(body, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("snapshot-")).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 404 when there is nothing to download")
+    void shouldReturnNotFoundWithoutRecording() {
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.recording().getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.stop().getStatus());
+    }
+}
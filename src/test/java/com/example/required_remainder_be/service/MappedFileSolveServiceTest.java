@@ -0,0 +1,137 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.BatchProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedFileSolveService Tests")
+class MappedFileSolveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RequiredRemainderService requiredRemainderService;
+    private MappedFileSolveService mappedFileSolveService;
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() {
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setChunkCases(10_000);
+        batchProperties.setParallelism(3);
+        batchProperties.setForce(false);
+        SolveMetrics solveMetrics = new SolveMetrics(new SimpleMeterRegistry());
+        requiredRemainderService = new RequiredRemainderService(new SolveProperties(), solveMetrics);
+        mappedFileSolveService = new MappedFileSolveService(requiredRemainderService, batchProperties, solveMetrics);
+        input = tempDir.resolve("cases.bin");
+        output = tempDir.resolve("results.bin");
+    }
+
+    @AfterEach
+    void tearDown() {
+        requiredRemainderService.shutdown();
+    }
+
+    private void writeCases(int[][] cases) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(cases.length * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int[] c : cases) {
+            buffer.putInt(c[0]).putInt(c[1]).putInt(c[2]);
+        }
+        Files.write(input, buffer.array());
+    }
+
+    private long[] readResults() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(output)).order(ByteOrder.LITTLE_ENDIAN);
+        long[] results = new long[buffer.remaining() / 8];
+        buffer.asLongBuffer().get(results);
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should solve a file spanning several chunks and workers")
+    void solve_WithSeveralChunks_ShouldMatchSingleCaseResults() throws IOException {
+        Random random = new Random(42);
+        int[][] cases = new int[45_001][];
+        for (int i = 0; i < cases.length; i++) {
+            int x = 2 + random.nextInt(1_000);
+            int y = random.nextInt(x);
+            int n = y + random.nextInt(1_000_000);
+            if (i % 7 == 0) {
+                n = y - 1;
+            }
+            cases[i] = new int[]{x, y, n};
+        }
+        writeCases(cases);
+
+        long failed = mappedFileSolveService.solve(input, output);
+
+        long[] results = readResults();
+        assertEquals(cases.length, results.length);
+        long expectedFailed = 0;
+        for (int i = 0; i < cases.length; i++) {
+            long expected = requiredRemainderService.solveCase(cases[i][0], cases[i][1], cases[i][2]);
+            assertEquals(expected, results[i], "case " + i);
+            if (expected < 0) {
+                expectedFailed++;
+            }
+        }
+        assertEquals(expectedFailed, failed);
+    }
+
+    @Test
+    @DisplayName("Should write sentinels for invalid cases")
+    void solve_WithInvalidCases_ShouldWriteSentinels() throws IOException {
+        writeCases(new int[][]{{7, 5, 12345}, {1, 0, 10}, {5, 5, 10}, {5, 0, 1_000_000_001}});
+
+        long failed = mappedFileSolveService.solve(input, output);
+
+        assertArrayEquals(new long[]{12339, CaseStatus.INVALID_X.getSentinel(),
+                CaseStatus.INVALID_Y.getSentinel(), CaseStatus.INVALID_N.getSentinel()}, readResults());
+        assertEquals(3, failed);
+    }
+
+    @Test
+    @DisplayName("Should replace an existing, longer output file")
+    void solve_WithExistingOutput_ShouldTruncate() throws IOException {
+        Files.write(output, new byte[1024]);
+        writeCases(new int[][]{{10, 5, 187}});
+
+        mappedFileSolveService.solve(input, output);
+
+        assertArrayEquals(new long[]{185}, readResults());
+    }
+
+    @Test
+    @DisplayName("Should write an empty output for an empty input")
+    void solve_WithEmptyInput_ShouldWriteEmptyOutput() throws IOException {
+        Files.write(input, new byte[0]);
+
+        assertEquals(0, mappedFileSolveService.solve(input, output));
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    @DisplayName("Should reject an input ending with a partial case")
+    void solve_WithPartialCase_ShouldThrow() throws IOException {
+        Files.write(input, new byte[13]);
+
+        assertThrows(ValidationException.class, () -> mappedFileSolveService.solve(input, output));
+    }
+}
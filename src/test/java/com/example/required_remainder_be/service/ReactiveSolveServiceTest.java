@@ -0,0 +1,89 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReactiveSolveService Tests")
+class ReactiveSolveServiceTest {
+
+    private ReactiveSolveService reactiveSolveService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SolveMetrics solveMetrics = new SolveMetrics(meterRegistry);
+        reactiveSolveService = new ReactiveSolveService(
+                new RequiredRemainderService(new SolveProperties(), solveMetrics), solveMetrics);
+    }
+
+    private static RequiredRemainderRequest request(Long x, Long y, Long n) {
+        RequiredRemainderRequest request = new RequiredRemainderRequest();
+        request.setX(x);
+        request.setY(y);
+        request.setN(n);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should emit one result per case in input order")
+    void solve_WithValidCases_ShouldEmitResultsInOrder() {
+        Flux<RequiredRemainderRequest> requests = Flux.just(
+                request(7L, 5L, 12345L), request(5L, 0L, 4L), request(10L, 5L, 15L));
+
+        StepVerifier.create(reactiveSolveService.solve(requests))
+                .expectNext(Optional.of(12339L), Optional.of(0L), Optional.of(15L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should emit an empty result for invalid or incomplete cases")
+    void solve_WithInvalidCases_ShouldEmitEmptyResults() {
+        Flux<RequiredRemainderRequest> requests = Flux.just(
+                request(1L, 0L, 4L), request(7L, null, 12345L), request(7L, 5L, 12345L));
+
+        StepVerifier.create(reactiveSolveService.solve(requests))
+                .expectNext(Optional.empty(), Optional.empty(), Optional.of(12339L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should only pull a bounded number of cases ahead of demand")
+    void solve_WithSlowConsumer_ShouldLimitUpstreamDemand() {
+        AtomicLong requested = new AtomicLong();
+        Flux<RequiredRemainderRequest> requests = Flux.range(0, 100_000)
+                .map(i -> request(7L, 5L, 12345L))
+                .doOnRequest(requested::addAndGet);
+
+        StepVerifier.create(reactiveSolveService.solve(requests), 1)
+                .expectNext(Optional.of(12339L))
+                .thenCancel()
+                .verify();
+
+        assertTrue(requested.get() <= 2L * ReactiveSolveService.CHUNK_SIZE,
+                "requested " + requested.get() + " cases for a single result");
+    }
+
+    @Test
+    @DisplayName("Should record one reactive batch when the stream completes")
+    void solve_OnCompletion_ShouldRecordBatchMetric() {
+        StepVerifier.create(reactiveSolveService.solve(Flux.just(request(7L, 5L, 12345L))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get(SolveMetrics.BATCH_DURATION)
+                .tag("mode", ExecutionMode.REACTIVE.getTag()).timer().count());
+    }
+}
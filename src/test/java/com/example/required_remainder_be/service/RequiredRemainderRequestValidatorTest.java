@@ -0,0 +1,118 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.ErrorResponse;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.RequiredRemainderRequestList;
+import com.example.required_remainder_be.exception.RequestValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import static com.example.required_remainder_be.constants.GeneralConstants.N_MUST_BE_BETWEEN_Y_AND_10_9;
+import static com.example.required_remainder_be.constants.GeneralConstants.TEST_CASE_CANNOT_BE_NULL;
+import static com.example.required_remainder_be.constants.GeneralConstants.X_CANNOT_BE_NULL;
+import static com.example.required_remainder_be.constants.GeneralConstants.Y_MUST_BE_BETWEEN_0_AND_X_1;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequiredRemainderRequestValidator Tests")
+class RequiredRemainderRequestValidatorTest {
+
+    private static RequiredRemainderRequestValidator validator(boolean rejectInvalidCases) {
+        SolveProperties properties = new SolveProperties();
+        properties.setRejectInvalidCases(rejectInvalidCases);
+        return new RequiredRemainderRequestValidator(properties);
+    }
+
+    private static RequiredRemainderRequest request(Long x, Long y, Long n) {
+        RequiredRemainderRequest request = new RequiredRemainderRequest();
+        request.setX(x);
+        request.setY(y);
+        request.setN(n);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should accept valid cases")
+    void validate_WithValidCases_ShouldPass() {
+        assertDoesNotThrow(() -> validator(true).validate(Arrays.asList(
+                request(7L, 5L, 12345L), request(1000000000L, 999999999L, 1000000000L))));
+    }
+
+    @Test
+    @DisplayName("Should leave invalid values to the solver by default")
+    void validate_WithInvalidValuesByDefault_ShouldPass() {
+        assertDoesNotThrow(() -> validator(false).validate(Arrays.asList(
+                request(1L, 0L, 4L), request(7L, null, 12345L))));
+    }
+
+    @Test
+    @DisplayName("Should always reject null test cases")
+    void validate_WithNullCase_ShouldReject() {
+        RequestValidationException thrown = assertThrows(RequestValidationException.class,
+                () -> validator(false).validate(Arrays.asList(request(7L, 5L, 12345L), null)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getStatus());
+        assertEquals(1, thrown.getInvalidCases());
+        ErrorResponse.ValidationError error = thrown.getValidationErrors().get(0);
+        assertEquals("[1]", error.getField());
+        assertEquals(TEST_CASE_CANNOT_BE_NULL, error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should find null test cases among the irregular cases of a codec-read list")
+    void validate_WithCodecListNullCase_ShouldReject() {
+        TreeMap<Integer, RequiredRemainderRequest> irregularCases = new TreeMap<>();
+        irregularCases.put(1, request(7L, null, 12345L));
+        irregularCases.put(2, null);
+        RequiredRemainderRequestList requests = new RequiredRemainderRequestList(new RequiredRemainderBatch(
+                new long[]{7, 7, -1}, new long[]{5, -1, -1}, new long[]{12345, 12345, -1}, 3), irregularCases);
+
+        RequestValidationException thrown = assertThrows(RequestValidationException.class,
+                () -> validator(false).validate(requests));
+
+        assertEquals(1, thrown.getInvalidCases());
+        assertEquals("[2]", thrown.getValidationErrors().get(0).getField());
+    }
+
+    @Test
+    @DisplayName("Should report cross-field violations with their index and value")
+    void validate_WithCrossFieldViolations_ShouldReportEachCase() {
+        RequestValidationException thrown = assertThrows(RequestValidationException.class,
+                () -> validator(true).validate(Arrays.asList(
+                        request(5L, 5L, 10L), request(7L, 5L, 12345L), request(10L, 8L, 3L), request(null, 1L, 2L))));
+
+        assertEquals(3, thrown.getInvalidCases());
+        List<ErrorResponse.ValidationError> errors = thrown.getValidationErrors();
+        assertEquals("[0].y", errors.get(0).getField());
+        assertEquals(Y_MUST_BE_BETWEEN_0_AND_X_1, errors.get(0).getMessage());
+        assertEquals("5", errors.get(0).getRejectedValue());
+        assertEquals("[2].n", errors.get(1).getField());
+        assertEquals(N_MUST_BE_BETWEEN_Y_AND_10_9, errors.get(1).getMessage());
+        assertEquals("3", errors.get(1).getRejectedValue());
+        assertEquals("[3].x", errors.get(2).getField());
+        assertEquals(X_CANNOT_BE_NULL, errors.get(2).getMessage());
+        assertNull(errors.get(2).getRejectedValue());
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported errors but count every invalid case")
+    void validate_WithManyInvalidCases_ShouldCapReportedErrors() {
+        List<RequiredRemainderRequest> requests = new ArrayList<>();
+        for (int i = 0; i < RequiredRemainderRequestValidator.MAX_REPORTED_ERRORS + 50; i++) {
+            requests.add(request(1L, 0L, 4L));
+        }
+
+        RequestValidationException thrown = assertThrows(RequestValidationException.class,
+                () -> validator(true).validate(requests));
+
+        assertEquals(RequiredRemainderRequestValidator.MAX_REPORTED_ERRORS + 50, thrown.getInvalidCases());
+        assertEquals(RequiredRemainderRequestValidator.MAX_REPORTED_ERRORS, thrown.getValidationErrors().size());
+    }
+}
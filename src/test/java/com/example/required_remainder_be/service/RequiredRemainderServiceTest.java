@@ -1,24 +1,38 @@
 package com.example.required_remainder_be.service;
 
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.RequiredRemainderBatchResponse;
+import com.example.required_remainder_be.dto.RequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderRequest;
+import com.example.required_remainder_be.dto.WideRequiredRemainderResultList;
+import com.example.required_remainder_be.exception.RequiredRemainderException;
 import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RequiredRemainderService Tests")
 class RequiredRemainderServiceTest {
 
-    @InjectMocks
     private RequiredRemainderService requiredRemainderService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requiredRemainderService = new RequiredRemainderService(new SolveProperties(), new SolveMetrics(meterRegistry));
     }
 
     @Test
@@ -152,4 +166,295 @@ class RequiredRemainderServiceTest {
         assertEquals("n must be between y and 10^9", exception.getMessage());
         assertEquals("n", exception.getField());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Batch: solves valid cases and marks invalid ones with the sentinel")
+    void solveBatch_WithMixedCases_ShouldReturnResultsAndSentinels() {
+        RequiredRemainderBatch batch = new RequiredRemainderBatch(
+                new long[]{7, 1, 10},
+                new long[]{5, 0, 5},
+                new long[]{12345, 10, 15},
+                3);
+
+        long[] results = requiredRemainderService.solveBatch(batch);
+
+        assertArrayEquals(new long[]{12339, CaseStatus.INVALID_X.getSentinel(), 15}, results);
+    }
+
+    @Test
+    @DisplayName("Kernel: fills results and failure bitmap for a sub-range")
+    void solveInto_WithRange_ShouldOnlyTouchRangeAndMarkFailures() {
+        int size = 130;
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = 7;
+            ys[i] = 5;
+            ns[i] = 12345;
+        }
+        xs[64] = 1;
+        ns[129] = 4;
+        long[] results = new long[size];
+        long[] failures = RequiredRemainderService.newFailureBitmap(size);
+
+        int failed = requiredRemainderService.solveInto(xs, ys, ns, 1, size, results, failures);
+
+        assertEquals(2, failed);
+        assertEquals(3, failures.length);
+        assertEquals(0, results[0]);
+        assertEquals(12339, results[1]);
+        assertEquals(CaseStatus.INVALID_X.getSentinel(), results[64]);
+        assertEquals(CaseStatus.INVALID_N.getSentinel(), results[129]);
+        assertTrue(RequiredRemainderService.isFailed(failures, 64));
+        assertTrue(RequiredRemainderService.isFailed(failures, 129));
+        assertFalse(RequiredRemainderService.isFailed(failures, 63));
+        assertFalse(RequiredRemainderService.isFailed(failures, 128));
+    }
+
+    @Test
+    @DisplayName("List: returns null for invalid and incomplete cases")
+    void solveCases_WithInvalidAndMissingValues_ShouldReturnNulls() {
+        RequiredRemainderRequest valid = new RequiredRemainderRequest();
+        valid.setX(7L);
+        valid.setY(5L);
+        valid.setN(12345L);
+        RequiredRemainderRequest invalid = new RequiredRemainderRequest();
+        invalid.setX(5L);
+        invalid.setY(3L);
+        invalid.setN(2L);
+        RequiredRemainderRequest missing = new RequiredRemainderRequest();
+        missing.setX(7L);
+        missing.setN(10L);
+
+        List<Long> results = requiredRemainderService.solveCases(Arrays.asList(valid, invalid, missing));
+
+        assertEquals(Arrays.asList(12339L, null, null), results);
+    }
+
+    @Test
+    @DisplayName("Detailed: reports an error code for each failed index")
+    void solveCasesDetailed_WithInvalidCases_ShouldReportIndexedErrors() {
+        RequiredRemainderRequest valid = new RequiredRemainderRequest();
+        valid.setX(7L);
+        valid.setY(5L);
+        valid.setN(12345L);
+        RequiredRemainderRequest invalidY = new RequiredRemainderRequest();
+        invalidY.setX(5L);
+        invalidY.setY(5L);
+        invalidY.setN(10L);
+        RequiredRemainderRequest invalidN = new RequiredRemainderRequest();
+        invalidN.setX(5L);
+        invalidN.setY(3L);
+        invalidN.setN(2L);
+
+        RequiredRemainderBatchResponse response =
+                requiredRemainderService.solveCasesDetailed(Arrays.asList(invalidY, valid, invalidN));
+
+        assertEquals(Arrays.asList(null, 12339L, null), response.getResults());
+        assertEquals(2, response.getFailed());
+        assertEquals(2, response.getErrors().size());
+        assertEquals(0, response.getErrors().get(0).getIndex());
+        assertEquals("INVALID_Y", response.getErrors().get(0).getCode());
+        assertEquals("y", response.getErrors().get(0).getField());
+        assertEquals("y must be between 0 and x-1", response.getErrors().get(0).getMessage());
+        assertEquals(2, response.getErrors().get(1).getIndex());
+        assertEquals("INVALID_N", response.getErrors().get(1).getCode());
+    }
+
+    @Test
+    @DisplayName("Status: validation reports the first violated constraint without throwing")
+    void validate_ShouldReturnStatusForEachConstraint() {
+        assertEquals(CaseStatus.OK, RequiredRemainderService.validate(7, 5, 12345));
+        assertEquals(CaseStatus.INVALID_X, RequiredRemainderService.validate(1, 0, 10));
+        assertEquals(CaseStatus.INVALID_Y, RequiredRemainderService.validate(5, -1, 10));
+        assertEquals(CaseStatus.INVALID_N, RequiredRemainderService.validate(5, 3, 1000000001));
+        assertEquals(CaseStatus.INVALID_N, CaseStatus.fromResult(requiredRemainderService.solveCase(5, 3, 2)));
+        assertEquals(12339, requiredRemainderService.solveCase(7, 5, 12345));
+    }
+
+    @Test
+    @DisplayName("Parallel: large batches give the same results and failures as sequential solving")
+    void solveBatch_AboveParallelThreshold_ShouldMatchSequentialResults() {
+        SolveProperties parallelProperties = new SolveProperties();
+        parallelProperties.setParallelThreshold(256);
+        parallelProperties.setChunkSize(100);
+        parallelProperties.setParallelism(4);
+        RequiredRemainderService parallelService = new RequiredRemainderService(parallelProperties,
+                new SolveMetrics(new SimpleMeterRegistry()));
+
+        int size = 10_007;
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = 2 + i % 97;
+            ys[i] = i % 13;
+            ns[i] = i % 7 == 0 ? 0 : 1_000_000L + i;
+        }
+        RequiredRemainderBatch batch = new RequiredRemainderBatch(xs, ys, ns, size);
+
+        try {
+            long[] parallel = parallelService.solveBatch(batch);
+            long[] sequential = requiredRemainderService.solveBatch(batch);
+
+            assertArrayEquals(sequential, parallel);
+        } finally {
+            parallelService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Metrics: batches record size, duration and case outcomes once per batch")
+    void solveBatch_ShouldRecordBatchMetrics() {
+        RequiredRemainderBatch batch = new RequiredRemainderBatch(
+                new long[]{7, 1, 10},
+                new long[]{5, 0, 5},
+                new long[]{12345, 10, 15},
+                3);
+
+        requiredRemainderService.solveBatch(batch);
+        assertThrows(ValidationException.class, () -> requiredRemainderService.findMaxK(1, 0, 10));
+
+        assertEquals(1, meterRegistry.get(SolveMetrics.BATCH_DURATION).tag("mode", "sequential").timer().count());
+        assertEquals(3.0, meterRegistry.get(SolveMetrics.BATCH_SIZE).summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get(SolveMetrics.CASES).tag("outcome", "success").counter().count());
+        assertEquals(2.0, meterRegistry.get(SolveMetrics.CASES).tag("outcome", "validation_failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("Query: countK matches a brute-force count over small ranges")
+    void countK_ShouldMatchBruteForce() {
+        long x = 5;
+        long y = 3;
+        for (long lo = 0; lo <= 30; lo++) {
+            for (long hi = lo; hi <= 30; hi++) {
+                long expected = 0;
+                for (long k = lo; k <= hi; k++) {
+                    if (k % x == y) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, requiredRemainderService.countK(x, y, lo, hi), "lo=" + lo + " hi=" + hi);
+            }
+        }
+        assertEquals(1763, requiredRemainderService.countK(7, 5, 0, 12345));
+    }
+
+    @Test
+    @DisplayName("Query: minK returns the smallest k in range or fails when there is none")
+    void minK_ShouldReturnSmallestKInRange() {
+        assertEquals(103, requiredRemainderService.minK(7, 5, 100, 200));
+        assertEquals(5, requiredRemainderService.minK(7, 5, 0, 200));
+        assertThrows(RequiredRemainderException.class, () -> requiredRemainderService.minK(10, 9, 0, 8));
+    }
+
+    @Test
+    @DisplayName("Query: nearestK picks the closer k, the smaller one on ties")
+    void nearestK_ShouldReturnClosestK() {
+        assertEquals(13, requiredRemainderService.nearestK(10, 3, 17));
+        assertEquals(13, requiredRemainderService.nearestK(10, 3, 18));
+        assertEquals(23, requiredRemainderService.nearestK(10, 3, 19));
+        assertEquals(3, requiredRemainderService.nearestK(10, 3, 1));
+        assertEquals(5, requiredRemainderService.nearestK(1000000000, 5, 1000000000));
+    }
+
+    @Test
+    @DisplayName("Query: enumerateK pages through the progression in either direction")
+    void enumerateK_ShouldPageLazily() {
+        assertArrayEquals(new long[]{2, 7, 12, 17, 22, 27},
+                requiredRemainderService.enumerateK(5, 2, 0, 30, 0, 100, false).toArray());
+        assertArrayEquals(new long[]{12, 17, 22},
+                requiredRemainderService.enumerateK(5, 2, 0, 30, 2, 3, false).toArray());
+        assertArrayEquals(new long[]{27, 22},
+                requiredRemainderService.enumerateK(5, 2, 0, 30, 0, 2, true).toArray());
+        assertEquals(0, requiredRemainderService.enumerateK(5, 2, 0, 30, 6, 10, false).count());
+        assertEquals(999999999L,
+                requiredRemainderService.enumerateK(2, 1, 0, 1000000000, 0, 1, true).findFirst().getAsLong());
+    }
+
+    @Test
+    @DisplayName("Query: invalid ranges are rejected with the offending field")
+    void queries_WithInvalidRange_ShouldThrowValidationException() {
+        ValidationException loAboveHi = assertThrows(ValidationException.class,
+                () -> requiredRemainderService.countK(5, 2, 10, 5));
+        assertEquals("lo", loAboveHi.getField());
+        ValidationException hiTooLarge = assertThrows(ValidationException.class,
+                () -> requiredRemainderService.countK(5, 2, 0, 1000000001));
+        assertEquals("hi", hiTooLarge.getField());
+        ValidationException target = assertThrows(ValidationException.class,
+                () -> requiredRemainderService.nearestK(5, 2, -1));
+        assertEquals("target", target.getField());
+        assertThrows(ValidationException.class,
+                () -> requiredRemainderService.enumerateK(5, 2, 0, 30, -1, 10, false));
+        ValidationException emptyPage = assertThrows(ValidationException.class,
+                () -> requiredRemainderService.enumerateK(5, 2, 0, 30, 0, 0, false));
+        assertEquals("limit", emptyPage.getField());
+    }
+
+    private static WideRequiredRemainderRequest wideRequest(BigInteger x, BigInteger y, BigInteger n) {
+        WideRequiredRemainderRequest request = new WideRequiredRemainderRequest();
+        request.setX(x);
+        request.setY(y);
+        request.setN(n);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Wide: the long path is exact up to Long.MAX_VALUE without overflowing")
+    void solveCaseWide_WithLongExtremes_ShouldNotOverflow() {
+        assertEquals(Long.MAX_VALUE, RequiredRemainderService.solveCaseWide(Long.MAX_VALUE, 0, Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE - 1,
+                RequiredRemainderService.solveCaseWide(Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE - 1, RequiredRemainderService.solveCaseWide(2, 0, Long.MAX_VALUE));
+        assertEquals(12339, RequiredRemainderService.solveCaseWide(7, 5, 12345));
+        assertEquals(CaseStatus.INVALID_X.getSentinel(), RequiredRemainderService.solveCaseWide(1, 0, 5));
+        assertEquals(CaseStatus.INVALID_Y.getSentinel(), RequiredRemainderService.solveCaseWide(5, 5, 10));
+        assertEquals(CaseStatus.INVALID_N.getSentinel(), RequiredRemainderService.solveCaseWide(5, 3, 2));
+    }
+
+    @Test
+    @DisplayName("Wide: the BigInteger path agrees with the long path and extends beyond it")
+    void solveCaseWide_WithBigIntegers_ShouldMatchLongPath() {
+        BigInteger x = BigInteger.valueOf(1_000_000_007L);
+        BigInteger y = BigInteger.valueOf(12345);
+        BigInteger n = BigInteger.valueOf(Long.MAX_VALUE);
+        assertEquals(BigInteger.valueOf(RequiredRemainderService.solveCaseWide(x.longValue(), y.longValue(), n.longValue())),
+                RequiredRemainderService.solveCaseWide(x, y, n));
+
+        BigInteger hugeN = BigInteger.TEN.pow(40);
+        BigInteger result = RequiredRemainderService.solveCaseWide(x, y, hugeN);
+        assertEquals(y, result.mod(x));
+        assertTrue(result.compareTo(hugeN) <= 0);
+        assertTrue(result.add(x).compareTo(hugeN) > 0);
+        assertNull(RequiredRemainderService.solveCaseWide(BigInteger.ONE, BigInteger.ZERO, hugeN));
+    }
+
+    @Test
+    @DisplayName("Wide: a batch can mix magnitudes and invalid cases")
+    void solveCasesWide_WithMixedMagnitudes_ShouldSolveEachCase() {
+        BigInteger huge = BigInteger.TWO.pow(100);
+        List<WideRequiredRemainderRequest> requests = Arrays.asList(
+                wideRequest(BigInteger.valueOf(7), BigInteger.valueOf(5), BigInteger.valueOf(12345)),
+                wideRequest(BigInteger.valueOf(10), BigInteger.valueOf(3), BigInteger.valueOf(Long.MAX_VALUE)),
+                wideRequest(BigInteger.valueOf(10), BigInteger.valueOf(3), huge),
+                wideRequest(BigInteger.valueOf(10), null, huge),
+                wideRequest(BigInteger.valueOf(10), BigInteger.valueOf(11), huge));
+
+        List<BigInteger> results = requiredRemainderService.solveCasesWide(requests);
+
+        assertEquals(BigInteger.valueOf(12339), results.get(0));
+        assertEquals(BigInteger.valueOf(9223372036854775803L), results.get(1));
+        assertEquals(huge.subtract(huge.subtract(BigInteger.valueOf(3)).mod(BigInteger.TEN)), results.get(2));
+        assertNull(results.get(3));
+        assertNull(results.get(4));
+        assertEquals(1, meterRegistry.get(SolveMetrics.BATCH_DURATION).tag("mode", "wide").timer().count());
+
+        WideRequiredRemainderResultList wide = assertInstanceOf(WideRequiredRemainderResultList.class, results);
+        assertNull(wide.getBigValue(0));
+        assertEquals(12339, wide.getValue(0));
+        assertNull(wide.getBigValue(1));
+        assertNotNull(wide.getBigValue(2));
+        assertTrue(wide.isFailed(3));
+    }
+}
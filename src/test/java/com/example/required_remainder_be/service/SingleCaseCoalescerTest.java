@@ -0,0 +1,169 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.CacheProperties;
+import com.example.required_remainder_be.config.CoalescerProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleCaseCoalescer Tests")
+class SingleCaseCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequiredRemainderService requiredRemainderService;
+    private CoalescerProperties properties;
+    private CacheProperties cacheProperties;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requiredRemainderService = new RequiredRemainderService(new SolveProperties(), new SolveMetrics(meterRegistry));
+        properties = new CoalescerProperties();
+        cacheProperties = new CacheProperties();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        requiredRemainderService.shutdown();
+    }
+
+    private SingleCaseCoalescer newCoalescer() {
+        return new SingleCaseCoalescer(requiredRemainderService, new SolveMetrics(meterRegistry),
+                new TripleResultCache(cacheProperties, meterRegistry), properties, meterRegistry);
+    }
+
+    private DistributionSummary batchSizes() {
+        return meterRegistry.get(SingleCaseCoalescer.BATCH_SIZE).summary();
+    }
+
+    @Test
+    @DisplayName("Should solve a lone case on the caller's thread")
+    void solve_WithSingleCaller_ShouldSolveInline() {
+        SingleCaseCoalescer coalescer = newCoalescer();
+
+        assertEquals(12339, coalescer.solve(7, 5, 12345));
+        assertEquals(CaseStatus.INVALID_Y.getSentinel(), coalescer.solve(5, 5, 10));
+        assertEquals(2, batchSizes().count());
+        assertEquals(1.0, batchSizes().max());
+        assertEquals(2, meterRegistry.get(SingleCaseCoalescer.LATENCY).timer().count());
+    }
+
+    @Test
+    @DisplayName("Should solve concurrent cases as one micro-batch")
+    void solve_WithConcurrentCallers_ShouldShareOneBatch() throws Exception {
+        properties.setMaxBatch(4);
+        // long enough that only a full batch ends the wait
+        properties.setMaxWait(Duration.ofSeconds(5));
+        SingleCaseCoalescer coalescer = newCoalescer();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            long n = 100 + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return coalescer.solve(10, 3, n);
+            }));
+        }
+        start.countDown();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(93, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, batchSizes().count());
+        assertEquals(4.0, batchSizes().max());
+    }
+
+    @Test
+    @DisplayName("Should give every caller its own result under contention")
+    void solve_UnderContention_ShouldReturnEachCallersResult() throws Exception {
+        properties.setMaxBatch(16);
+        SingleCaseCoalescer coalescer = newCoalescer();
+        int callers = 8;
+        int casesPerCaller = 2_000;
+
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        for (int c = 0; c < callers; c++) {
+            long x = 2 + c;
+            mismatches.add(executor.submit(() -> {
+                int wrong = 0;
+                for (long n = 0; n < casesPerCaller; n++) {
+                    long expected = requiredRemainderService.solveCase(x, 1, n);
+                    if (coalescer.solve(x, 1, n) != expected) {
+                        wrong++;
+                    }
+                }
+                return wrong;
+            }));
+        }
+
+        for (Future<Integer> result : mismatches) {
+            assertEquals(0, result.get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(callers * casesPerCaller, (long) batchSizes().totalAmount());
+        assertTrue(batchSizes().max() <= 16);
+    }
+
+    @Test
+    @DisplayName("Should throw like findMaxK for a case that breaks the constraints")
+    void findMaxK_WithInvalidCase_ShouldThrowValidationException() {
+        SingleCaseCoalescer coalescer = newCoalescer();
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> coalescer.findMaxK(1, 0, 10));
+        assertEquals("x", exception.getField());
+        assertEquals(185, coalescer.findMaxK(10, 5, 187));
+    }
+
+    @Test
+    @DisplayName("Should solve directly without batching when disabled")
+    void solve_WhenDisabled_ShouldNotBatch() {
+        properties.setEnabled(false);
+        SingleCaseCoalescer coalescer = newCoalescer();
+
+        assertEquals(12339, coalescer.solve(7, 5, 12345));
+        assertEquals(0, batchSizes().count());
+    }
+
+    @Test
+    @DisplayName("Should answer repeated successful cases from the triple cache when enabled")
+    void solve_WithTripleCache_ShouldSkipTheBatchOnHit() {
+        cacheProperties.getTriple().setEnabled(true);
+        SingleCaseCoalescer coalescer = newCoalescer();
+
+        assertEquals(12339, coalescer.solve(7, 5, 12345));
+        assertEquals(12339, coalescer.solve(7, 5, 12345));
+        assertEquals(CaseStatus.INVALID_Y.getSentinel(), coalescer.solve(5, 5, 10));
+        assertEquals(CaseStatus.INVALID_Y.getSentinel(), coalescer.solve(5, 5, 10));
+
+        // the second lookup of the solved case is a hit, failures are never cached
+        assertEquals(1, cacheGets("hit"));
+        assertEquals(3, cacheGets("miss"));
+        assertEquals(3, batchSizes().count());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", TripleResultCache.CACHE_NAME).tag("result", result)
+                .functionCounter().count();
+    }
+}
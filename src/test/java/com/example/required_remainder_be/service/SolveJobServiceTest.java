@@ -0,0 +1,173 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.JobProperties;
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.dto.RequiredRemainderBatch;
+import com.example.required_remainder_be.dto.SolveJobResultsPage;
+import com.example.required_remainder_be.exception.RequiredRemainderException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SolveJobService Tests")
+class SolveJobServiceTest {
+
+    private RequiredRemainderService requiredRemainderService;
+    private SolveJobService solveJobService;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setChunkSize(64);
+        jobProperties.setMaxPageSize(100);
+        jobProperties.setTtl(Duration.ofMinutes(1));
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        SolveMetrics solveMetrics = new SolveMetrics(new SimpleMeterRegistry());
+        requiredRemainderService = new RequiredRemainderService(new SolveProperties(), solveMetrics);
+        solveJobService = new SolveJobService(requiredRemainderService, jobProperties, solveMetrics, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        solveJobService.shutdown();
+        requiredRemainderService.shutdown();
+    }
+
+    private SolveJob awaitFinished(SolveJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!job.isFinished()) {
+            assertTrue(System.nanoTime() < deadline, "job did not finish in time");
+            Thread.sleep(5);
+        }
+        return job;
+    }
+
+    private static RequiredRemainderBatch batch(int size) {
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        Arrays.fill(xs, 7);
+        Arrays.fill(ys, 5);
+        Arrays.fill(ns, 12345);
+        xs[1] = 1;
+        return new RequiredRemainderBatch(xs, ys, ns, size);
+    }
+
+    @Test
+    @DisplayName("Should solve a submitted batch in the background and page through results")
+    void submit_ShouldCompleteAndPageResults() throws InterruptedException {
+        SolveJob job = awaitFinished(solveJobService.submit(batch(250)));
+
+        assertEquals(SolveJob.State.COMPLETED, job.getState());
+        assertEquals(250, job.getProcessed());
+        assertEquals(1, job.getFailed());
+
+        SolveJobResultsPage first = solveJobService.getResults(job.getId(), 0, 1000);
+        assertEquals(100, first.getResults().size());
+        assertEquals(12339L, first.getResults().get(0));
+        assertNull(first.getResults().get(1));
+        assertEquals(100, first.getNextOffset());
+
+        SolveJobResultsPage last = solveJobService.getResults(job.getId(), 200, 100);
+        assertEquals(50, last.getResults().size());
+        assertNull(last.getNextOffset());
+    }
+
+    @Test
+    @DisplayName("Should end paging at the last solved result of a failed job")
+    void getResults_ForFailedJob_ShouldEndAtProcessed() throws InterruptedException {
+        SolveMetrics solveMetrics = new SolveMetrics(new SimpleMeterRegistry());
+        RequiredRemainderService failingService = new RequiredRemainderService(new SolveProperties(), solveMetrics) {
+            @Override
+            public int solveInto(long[] xs, long[] ys, long[] ns, int from, int to, long[] results, long[] failures) {
+                if (from >= 64) {
+                    throw new IllegalStateException("chunk failed");
+                }
+                return super.solveInto(xs, ys, ns, from, to, results, failures);
+            }
+        };
+        JobProperties jobProperties = new JobProperties();
+        jobProperties.setChunkSize(64);
+        jobProperties.setMaxPageSize(100);
+        SolveJobService failingJobs = new SolveJobService(failingService, jobProperties, solveMetrics, clock);
+        try {
+            SolveJob job = awaitFinished(failingJobs.submit(batch(250)));
+            assertEquals(SolveJob.State.FAILED, job.getState());
+            assertEquals(64, job.getProcessed());
+
+            SolveJobResultsPage first = failingJobs.getResults(job.getId(), 0, 50);
+            assertEquals(50, first.getNextOffset());
+            SolveJobResultsPage last = failingJobs.getResults(job.getId(), 50, 50);
+            assertEquals(14, last.getResults().size());
+            assertNull(last.getNextOffset());
+            assertNull(failingJobs.getResults(job.getId(), 64, 50).getNextOffset());
+        } finally {
+            failingJobs.shutdown();
+            failingService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report unknown jobs as not found")
+    void getJob_WithUnknownId_ShouldThrowNotFound() {
+        RequiredRemainderException exception = assertThrows(RequiredRemainderException.class,
+                () -> solveJobService.getJob("missing"));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should evict finished jobs once their TTL has passed")
+    void evictExpiredJobs_AfterTtl_ShouldRemoveJob() throws InterruptedException {
+        SolveJob job = awaitFinished(solveJobService.submit(batch(10)));
+
+        solveJobService.evictExpiredJobs();
+        assertSame(job, solveJobService.getJob(job.getId()));
+
+        clock.advance(Duration.ofMinutes(2));
+        solveJobService.evictExpiredJobs();
+        assertThrows(RequiredRemainderException.class, () -> solveJobService.getJob(job.getId()));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.required_remainder_be.service;
+
+import com.example.required_remainder_be.config.SolveProperties;
+import com.example.required_remainder_be.exception.ValidationException;
+import com.example.required_remainder_be.metrics.SolveMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingSolveService Tests")
+class StreamingSolveServiceTest {
+
+    private StreamingSolveService streamingSolveService;
+
+    @BeforeEach
+    void setUp() {
+        SolveMetrics solveMetrics = new SolveMetrics(new SimpleMeterRegistry());
+        streamingSolveService = new StreamingSolveService(
+                new RequiredRemainderService(new SolveProperties(), solveMetrics), new ObjectMapper(), solveMetrics);
+    }
+
+    private String solve(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamingSolveService.solveStream(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should solve newline-delimited cases in order")
+    void solveStream_WithNdjson_ShouldWriteOneResultPerLine() throws IOException {
+        String body = "{\"x\":7,\"y\":5,\"n\":12345}\n{\"x\":5,\"y\":0,\"n\":4}\n";
+
+        assertEquals("12339\n0\n", solve(body));
+    }
+
+    @Test
+    @DisplayName("Should solve a JSON array of cases")
+    void solveStream_WithJsonArray_ShouldWriteOneResultPerLine() throws IOException {
+        String body = "[{\"x\":7,\"y\":5,\"n\":12345},{\"x\":10,\"y\":5,\"n\":15}]";
+
+        assertEquals("12339\n15\n", solve(body));
+    }
+
+    @Test
+    @DisplayName("Should write null for invalid or incomplete cases")
+    void solveStream_WithInvalidCases_ShouldWriteNull() throws IOException {
+        String body = "{\"x\":1,\"y\":0,\"n\":10}\n{\"x\":7,\"n\":10}\n{\"x\":7,\"y\":5,\"n\":12345}";
+
+        assertEquals("null\nnull\n12339\n", solve(body));
+    }
+
+    @Test
+    @DisplayName("Should reject a body that is not a sequence of objects")
+    void solveStream_WithNonObjectCase_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> solve("[1, 2, 3]"));
+    }
+
+    @Test
+    @DisplayName("Should end the stream with an error line when the body breaks after results were written")
+    void solveStream_WithMalformedCaseMidStream_ShouldWriteErrorLine() throws IOException {
+        String body = "{\"x\":7,\"y\":5,\"n\":12345}\n{\"x\":7,\"y\":5,\"n\":99999999999999999999}\n";
+
+        String output = solve(body);
+
+        assertTrue(output.startsWith("12339\n{\"error\":\"Malformed test case stream: "), output);
+        assertTrue(output.endsWith("}\n"), output);
+    }
+
+    @Test
+    @DisplayName("Should flush written results before waiting for more input")
+    void solveStream_ShouldFlushBeforeBlockingRead() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] first = "{\"x\":7,\"y\":5,\"n\":12345}\n".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "{\"x\":5,\"y\":0,\"n\":4}\n".getBytes(StandardCharsets.UTF_8);
+        InputStream input = new InputStream() {
+            private int reads;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                byte[] chunk = switch (reads++) {
+                    case 0 -> first;
+                    case 1 -> {
+                        // the first result must be out before the parser waits for the second case
+                        assertEquals("12339\n", output.toString(StandardCharsets.UTF_8));
+                        yield second;
+                    }
+                    default -> null;
+                };
+                if (chunk == null) {
+                    return -1;
+                }
+                System.arraycopy(chunk, 0, b, off, chunk.length);
+                return chunk.length;
+            }
+        };
+
+        streamingSolveService.solveStream(input, output);
+
+        assertEquals("12339\n0\n", output.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.required_remainder_be.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VectorSolveKernel Tests")
+class VectorSolveKernelTest {
+
+    private static final long MAX_VALUE = 1_000_000_000L;
+
+    private final SolveKernel scalar = new ScalarSolveKernel();
+    private final SolveKernel vector = new VectorSolveKernel();
+
+    @Test
+    @DisplayName("Should match the scalar kernel on random valid and invalid cases")
+    void solveInto_ShouldMatchScalarKernel() {
+        Random random = new Random(7);
+        int size = 10_007;
+        long[] xs = new long[size];
+        long[] ys = new long[size];
+        long[] ns = new long[size];
+        for (int i = 0; i < size; i++) {
+            long x = 2 + (long) (random.nextDouble() * (MAX_VALUE - 1));
+            long y = (long) (random.nextDouble() * x);
+            long n = y + (long) (random.nextDouble() * (MAX_VALUE - y + 1));
+            switch (random.nextInt(8)) {
+                case 0 -> x = random.nextBoolean() ? 1 : MAX_VALUE + 1;
+                case 1 -> y = random.nextBoolean() ? -1 : x;
+                case 2 -> n = random.nextBoolean() ? y - 1 : MAX_VALUE + 1;
+                case 3 -> x = 0;
+                default -> {
+                    // valid case
+                }
+            }
+            xs[i] = x;
+            ys[i] = y;
+            ns[i] = n;
+        }
+
+        assertKernelsAgree(xs, ys, ns, 0, size);
+        assertKernelsAgree(xs, ys, ns, 3, size - 5);
+    }
+
+    @Test
+    @DisplayName("Should be exact where the double quotient is closest to rounding up")
+    void solveInto_WithQuotientsJustBelowIntegers_ShouldBeExact() {
+        long[] xs = {MAX_VALUE, MAX_VALUE - 1, 2, 3, 999_999_937L, 2, 7, 31_622};
+        long[] ys = {0, 0, 0, 1, 5, 1, 5, 17};
+        long[] ns = {MAX_VALUE - 1, MAX_VALUE, MAX_VALUE - 1, MAX_VALUE, MAX_VALUE, MAX_VALUE, 12345, MAX_VALUE};
+
+        assertKernelsAgree(xs, ys, ns, 0, xs.length);
+    }
+
+    private void assertKernelsAgree(long[] xs, long[] ys, long[] ns, int from, int to) {
+        int size = xs.length;
+        long[] expected = new long[size];
+        long[] expectedFailures = RequiredRemainderService.newFailureBitmap(size);
+        long[] actual = new long[size];
+        long[] actualFailures = RequiredRemainderService.newFailureBitmap(size);
+
+        int expectedFailed = scalar.solveInto(xs, ys, ns, from, to, expected, expectedFailures);
+        int actualFailed = vector.solveInto(xs, ys, ns, from, to, actual, actualFailures);
+
+        assertEquals(expectedFailed, actualFailed);
+        assertArrayEquals(expected, actual);
+        assertArrayEquals(expectedFailures, actualFailures);
+    }
+}
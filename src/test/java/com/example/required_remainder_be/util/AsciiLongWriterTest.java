@@ -0,0 +1,24 @@
+package com.example.required_remainder_be.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsciiLongWriter Tests")
+class AsciiLongWriterTest {
+
+    @Test
+    @DisplayName("Should write the same digits as Long.toString")
+    void write_ShouldMatchLongToString() {
+        long[] values = {0, 7, 9, 10, 99, 100, 12339, 1_000_000_000L, -1, -10, -12339,
+                Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        byte[] buffer = new byte[3 + AsciiLongWriter.MAX_LENGTH];
+        for (long value : values) {
+            int end = AsciiLongWriter.write(buffer, 3, value);
+            assertEquals(Long.toString(value), new String(buffer, 3, end - 3, StandardCharsets.US_ASCII));
+        }
+    }
+}